@@ -0,0 +1,61 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.controller.MemberController;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.security.AuthorizationRule;
+import com.example.tokenauth.security.MemberAuthentication;
+import org.aopalliance.intercept.MethodInvocation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.expression.Expression;
+import org.springframework.security.access.expression.ExpressionUtils;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemberController.getMember 의 @PreAuthorize 를 확인하는 비용.
+ * method security 가 호출마다 수행하는 evaluation context 생성과 SpEL 평가를,
+ * 기동 시 컴파일한 AuthorizationRule 의 mask 비교와 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthorizationBenchmark {
+
+    private DefaultMethodSecurityExpressionHandler expressionHandler;
+    private Expression expression;
+    private MethodInvocation invocation;
+    private AuthorizationRule rule;
+    private Authentication authentication;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        Method method = MemberController.class.getMethod("getMember", Long.class);
+        String value = method.getAnnotation(PreAuthorize.class).value();
+
+        expressionHandler = new DefaultMethodSecurityExpressionHandler();
+        expression = expressionHandler.getExpressionParser().parseExpression(value);
+        invocation = new SimpleMethodInvocation(new MemberController(null, null, null, null), method, 1L);
+
+        rule = AuthorizationRule.compile(value);
+        authentication = new MemberAuthentication(1L, EnumSet.of(RoleType.USER));
+    }
+
+    @Benchmark
+    public boolean spel() {
+        return ExpressionUtils.evaluateAsBoolean(expression,
+                expressionHandler.createEvaluationContext(authentication, invocation));
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return rule.permits(authentication);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.tokenauth.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * 벤치마크를 스레드 수 별로 반복 실행하고, GC 프로파일러 결과를 포함한 JSON 을 남긴다.
+ *
+ * 인자: include 정규식, 쉼표로 구분한 스레드 수 목록, fork 수, 결과 디렉터리
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        String[] threads = (args.length > 1 ? args[1] : "1").split(",");
+        int forks = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+        File resultDirectory = new File(args.length > 3 ? args[3] : "target/jmh");
+        resultDirectory.mkdirs();
+
+        for (String thread : threads) {
+            int threadCount = Integer.parseInt(thread.trim());
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threadCount)
+                    .forks(forks)
+                    .addProfiler(GCProfiler.class)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(resultDirectory, "result-" + threadCount + "-threads.json").getPath())
+                    .build();
+
+            new Runner(options).run();
+        }
+    }
+}
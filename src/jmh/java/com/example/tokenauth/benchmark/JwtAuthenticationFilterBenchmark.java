@@ -0,0 +1,91 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.example.tokenauth.domain.repository.RevokedTokenRepository;
+import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.filters.JwtAuthenticationFilter;
+import com.example.tokenauth.security.VerifiedTokenCache;
+import com.example.tokenauth.service.AuthenticationService;
+import com.example.tokenauth.service.RefreshTokenService;
+import com.example.tokenauth.service.RoleCache;
+import com.example.tokenauth.service.TokenRevocationService;
+import com.example.tokenauth.utils.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 헤더를 가진 요청이 JwtAuthenticationFilter 를 한 번 통과하는 비용.
+ * 토큰에 권한을 담는지와 검증 결과 캐시 사용 여부에 따라 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    @Param({"true", "false"})
+    private boolean embedRoles;
+
+    @Param({"true", "false"})
+    private boolean tokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = new JwtUtil(SECRET);
+
+        RoleRepository roleRepository = Mockito.mock(RoleRepository.class);
+        List<Role> roles = Arrays.asList(new Role(1L, RoleType.ADMIN), new Role(1L, RoleType.USER));
+        Mockito.when(roleRepository.findAllByMemberId(1L)).thenReturn(roles);
+
+        AuthenticationService authenticationService = new AuthenticationService(
+                Mockito.mock(MemberRepository.class), roleRepository, jwtUtil, new BCryptPasswordEncoder(4),
+                new VerifiedTokenCache(tokenCache, 10_000, Duration.ofMinutes(10), new SimpleMeterRegistry()),
+                new RoleCache(true, 10_000, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                Mockito.mock(RefreshTokenService.class), new TokenRevocationService(Mockito.mock(RevokedTokenRepository.class), 100_000, 0.001, new SimpleMeterRegistry()),
+                embedRoles);
+
+        filter = new JwtAuthenticationFilter(Mockito.mock(AuthenticationManager.class), authenticationService);
+
+        String token = embedRoles
+                ? jwtUtil.encode(1L, EnumSet.of(RoleType.ADMIN, RoleType.USER))
+                : jwtUtil.encode(1L);
+        authorization = "Bearer " + token;
+    }
+
+    @Benchmark
+    public Object doFilter() throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/1");
+        request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
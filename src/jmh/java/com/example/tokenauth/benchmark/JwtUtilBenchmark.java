@@ -0,0 +1,90 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.security.VerifiedToken;
+import com.example.tokenauth.utils.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 토큰 발급과 검증 비용.
+ * roleCount 로 권한 claim 의 크기를, payloadPadding 으로 알 수 없는 claim 이 붙은 큰 토큰을 흉내낸다.
+ * rejectMalformed 와 rejectForged 는 스캔이나 공격으로 들어오는 잘못된 토큰을 거부하는 비용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+
+    @Param({"0", "1", "2"})
+    private int roleCount;
+
+    @Param({"0", "256", "1024"})
+    private int payloadPadding;
+
+    private JwtUtil jwtUtil;
+    private List<RoleType> roleTypes;
+    private String token;
+    private String malformedToken;
+    private String forgedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        roleTypes = Arrays.asList(RoleType.values()).subList(0, roleCount);
+
+        token = Jwts.builder()
+                .claim("memberId", 1L)
+                .claim("roles", roleTypes.stream().map(Enum::name).collect(Collectors.toList()))
+                .claim("padding", "x".repeat(payloadPadding))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+        malformedToken = token.substring(0, token.lastIndexOf('.'));
+        forgedToken = token.substring(0, token.length() - 1) + (token.endsWith("A") ? "B" : "A");
+    }
+
+    @Benchmark
+    public String encode() {
+        return jwtUtil.encode(1L, roleTypes);
+    }
+
+    @Benchmark
+    public Claims decode() {
+        return jwtUtil.decode(token);
+    }
+
+    @Benchmark
+    public VerifiedToken decodeToken() {
+        return jwtUtil.decodeToken(token);
+    }
+
+    @Benchmark
+    public Object rejectMalformed() {
+        return reject(malformedToken);
+    }
+
+    @Benchmark
+    public Object rejectForged() {
+        return reject(forgedToken);
+    }
+
+    private Object reject(String invalidToken) {
+        try {
+            return jwtUtil.decodeToken(invalidToken);
+        } catch (InvalidTokenException e) {
+            return e;
+        }
+    }
+}
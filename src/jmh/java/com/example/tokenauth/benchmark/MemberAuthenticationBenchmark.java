@@ -0,0 +1,47 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.security.MemberAuthentication;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 만들어지는 MemberAuthentication 의 생성 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberAuthenticationBenchmark {
+
+    @Param({"0", "1", "2"})
+    private int roleCount;
+
+    private List<Role> roles;
+    private Set<RoleType> roleTypes;
+
+    @Setup
+    public void setUp() {
+        List<RoleType> selected = Arrays.asList(RoleType.values()).subList(0, roleCount);
+        roles = selected.stream().map(Role::new).collect(Collectors.toList());
+        roleTypes = selected.isEmpty() ? EnumSet.noneOf(RoleType.class) : EnumSet.copyOf(selected);
+    }
+
+    @Benchmark
+    public MemberAuthentication fromRoles() {
+        return new MemberAuthentication(1L, roles);
+    }
+
+    @Benchmark
+    public MemberAuthentication fromRoleTypes() {
+        return new MemberAuthentication(1L, roleTypes);
+    }
+}
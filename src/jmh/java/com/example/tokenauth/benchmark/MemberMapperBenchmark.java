@@ -0,0 +1,71 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.entity.Member;
+import com.example.tokenauth.domain.mapper.DirectMemberMapper;
+import com.example.tokenauth.domain.mapper.MemberMapper;
+import com.example.tokenauth.domain.mapper.ModelMapperMemberMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MemberMapper 구현 별 변환 비용과, 요청마다 ModelMapper.map 을 호출하던 기존 방식의 비용.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MemberMapperBenchmark {
+
+    private static final String ENCODED_PASSWORD = "$2a$10$encoded";
+
+    private ModelMapper modelMapper;
+    private MemberMapper directMapper;
+    private MemberMapper modelMapperMapper;
+    private Member member;
+    private MemberRequestSignUpData signUpData;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        directMapper = new DirectMemberMapper();
+        modelMapperMapper = new ModelMapperMemberMapper(new ModelMapper());
+
+        member = Member.builder()
+                .id(1L)
+                .email("test1234@gmail.com")
+                .nickname("test1234")
+                .password(ENCODED_PASSWORD)
+                .build();
+        signUpData = new MemberRequestSignUpData("test1234@gmail.com", "password1234", "test1234");
+    }
+
+    @Benchmark
+    public MemberResponseData toResponseData_direct() {
+        return directMapper.toResponseData(member);
+    }
+
+    @Benchmark
+    public MemberResponseData toResponseData_modelMapperTypeMap() {
+        return modelMapperMapper.toResponseData(member);
+    }
+
+    @Benchmark
+    public MemberResponseData toResponseData_modelMapperMap() {
+        return modelMapper.map(member, MemberResponseData.class);
+    }
+
+    @Benchmark
+    public Member toMember_direct() {
+        return directMapper.toMember(signUpData, ENCODED_PASSWORD);
+    }
+
+    @Benchmark
+    public Member toMember_modelMapperTypeMap() {
+        return modelMapperMapper.toMember(signUpData, ENCODED_PASSWORD);
+    }
+}
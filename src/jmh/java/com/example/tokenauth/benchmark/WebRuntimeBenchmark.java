@@ -0,0 +1,105 @@
+package com.example.tokenauth.benchmark;
+
+import com.example.tokenauth.TokenAuthApplication;
+import com.example.tokenauth.config.VirtualThreadConfig;
+import com.example.tokenauth.domain.dto.LoginRequestData;
+import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.utils.JwtUtil;
+import com.example.tokenauth.utils.VirtualThreads;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서블릿(플랫폼 스레드), 서블릿(가상 스레드), WebFlux 모드에서 인증된 회원 단건 조회의 처리량과 지연 분포 비교.
+ * 같은 애플리케이션을 각 모드로 임의 포트에 띄우고 실제 HTTP 요청을 보낸다.
+ * 회원 캐시를 끄면 매 요청이 JDBC 를 거치므로 블로킹 호출 격리 비용까지 함께 측정된다.
+ * 동시 요청 수는 BenchmarkRunner 의 스레드 수 목록으로 조절하며, tail latency 는 SampleTime 의 백분위로 확인한다.
+ * servlet-virtual 은 Java 21 이상에서만 실행되며, 각 모드의 스레드 설정이 실제로 적용되었는지 기동 후 확인한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WebRuntimeBenchmark {
+
+    @Param({"servlet", "servlet-virtual", "reactive"})
+    private String runtime;
+
+    @Param({"true", "false"})
+    private boolean memberCache;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest getMember;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        boolean virtualThreads = runtime.endsWith("virtual");
+        if (virtualThreads && !VirtualThreads.isSupported()) {
+            throw new IllegalStateException("servlet-virtual 은 Java 21 이상에서만 실행할 수 있습니다.");
+        }
+
+        context = new SpringApplicationBuilder(TokenAuthApplication.class)
+                .run("--server.port=0",
+                        "--spring.main.web-application-type=" + (runtime.startsWith("servlet") ? "servlet" : "reactive"),
+                        "--server.tomcat.virtual-threads=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + runtime + "-" + memberCache,
+                        "--spring.jpa.properties.show_sql=false",
+                        "--member.cache.enabled=" + memberCache,
+                        "--logging.level.root=warn");
+
+        if (context.getBeansOfType(VirtualThreadConfig.class).isEmpty() == virtualThreads) {
+            throw new IllegalStateException(runtime + " 모드의 스레드 설정이 적용되지 않았습니다.");
+        }
+
+        ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        MemberRequestSignUpData signUp = new MemberRequestSignUpData("bench@example.com", "password1234", "bench");
+        client.send(post(baseUrl + "/api/members", objectMapper.writeValueAsString(signUp)),
+                HttpResponse.BodyHandlers.discarding());
+
+        LoginRequestData login = new LoginRequestData("bench@example.com", "password1234");
+        HttpResponse<String> response = client.send(post(baseUrl + "/api/authenticate",
+                objectMapper.writeValueAsString(login)), HttpResponse.BodyHandlers.ofString());
+        String accessToken = objectMapper.readValue(response.body(), LoginResponseData.class).getAccessToken();
+        Long memberId = context.getBean(JwtUtil.class).decodeMemberId(accessToken);
+
+        getMember = HttpRequest.newBuilder(URI.create(baseUrl + "/api/members/" + memberId))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        if (getMember() != 200) {
+            throw new IllegalStateException("회원 조회 요청이 실패했습니다.");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int getMember() throws IOException, InterruptedException {
+        return client.send(getMember, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static HttpRequest post(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+}
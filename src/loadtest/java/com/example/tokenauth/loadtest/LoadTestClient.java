@@ -0,0 +1,129 @@
+package com.example.tokenauth.loadtest;
+
+import com.example.tokenauth.domain.dto.LoginRequestData;
+import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트가 보내는 요청을 만들고, 준비 단계의 요청을 동기로 보낸다.
+ */
+class LoadTestClient {
+
+    static final String PASSWORD = "password1234";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    LoadTestClient(ObjectMapper objectMapper, int port) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    static MemberRequestSignUpData member(String prefix, long number) {
+        return new MemberRequestSignUpData(prefix + number + "@loadtest.com", PASSWORD, "m" + number);
+    }
+
+    HttpRequest signUp(MemberRequestSignUpData member) {
+        return post("/api/members", member, null);
+    }
+
+    HttpRequest signUpAll(List<MemberRequestSignUpData> members, String adminToken) {
+        return post("/api/members/bulk", members, adminToken);
+    }
+
+    HttpRequest login(String email) {
+        return post("/api/authenticate", new LoginRequestData(email, PASSWORD), null);
+    }
+
+    HttpRequest getMember(long memberId, String accessToken) {
+        return get("/api/members/" + memberId, accessToken);
+    }
+
+    HttpRequest getMembers(int page, int size, String accessToken) {
+        return get("/api/members?page=" + page + "&size=" + size, accessToken);
+    }
+
+    /**
+     * @return 로그인한 회원의 access token
+     * @throw IllegalStateException 로그인에 실패했을 때
+     */
+    String accessToken(String email) {
+        HttpResponse<String> response = send(login(email), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException(email + " 로그인 실패: " + response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), LoginResponseData.class).getAccessToken();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @throw IllegalStateException 응답이 2xx 가 아닐 때
+     */
+    void sendExpectingSuccess(HttpRequest request) {
+        int status = send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " 실패: " + status);
+        }
+    }
+
+    /**
+     * @return 응답 상태 코드
+     */
+    int status(HttpRequest request) {
+        return send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        try {
+            return httpClient.send(request, bodyHandler);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest post(String path, Object body, String accessToken) {
+        try {
+            return builder(path, accessToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        return builder(path, accessToken).GET().build();
+    }
+
+    private HttpRequest.Builder builder(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.tokenauth.loadtest;
+
+import com.example.tokenauth.TokenAuthApplication;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.service.RoleCache;
+import com.example.tokenauth.utils.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 애플리케이션을 메모리 H2 로 띄우고 회원을 채운 뒤, 시나리오 별로 부하를 주어 처리량과 지연 시간 백분위를 남긴다.
+ *
+ * 시나리오는 login, get-member, sign-up, admin-list 와 이들을 섞은 mixed 이다.
+ * 각 시나리오는 warmup 동안 결과를 버린 뒤 duration 동안 초당 rate 개의 요청을 고정된 간격으로 보내는 open loop 로 측정하며,
+ * 2xx 가 아닌 응답과 전송 실패는 오류로 센다. 요청은 threads 개의 스레드가 나누어 보내고,
+ * 응답 시간은 실제로 보낸 시각이 아니라 보내기로 예정된 시각부터 잰다.
+ * 서버가 밀려 요청이 예정보다 늦게 나가더라도 그동안의 대기 시간이 백분위에 포함된다(coordinated omission 보정).
+ * 결과는 커밋 ID 와 함께 JSON 으로 남긴다.
+ *
+ * 인자: 쉼표로 구분한 시나리오 목록, 회원 수, 스레드 수, 초당 요청 수, 측정 시간, warmup 시간, 결과 디렉터리,
+ * 쉼표로 구분한 애플리케이션 속성(key=value) 목록
+ */
+public class LoadTestRunner {
+
+    private static final String ALL_SCENARIOS = "login,get-member,sign-up,admin-list,mixed";
+    private static final int TOKEN_SAMPLE_SIZE = 100;
+    private static final int PAGE_SIZE = 20;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    public static void main(String[] args) throws Exception {
+        List<String> scenarios = Arrays.asList((args.length > 0 ? args[0] : ALL_SCENARIOS).split(","));
+        int members = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        int rate = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+        Duration duration = Duration.parse(args.length > 4 ? args[4] : "PT30S");
+        Duration warmup = Duration.parse(args.length > 5 ? args[5] : "PT5S");
+        File resultDirectory = new File(args.length > 6 ? args[6] : "target/loadtest");
+        Map<String, String> properties = properties(args.length > 7 ? args[7] : "");
+
+        Instant startedAt = Instant.now();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TokenAuthApplication.class)
+                .run(properties.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new));
+
+        List<ScenarioResult> results = new ArrayList<>();
+        try {
+            LoadTestClient client = new LoadTestClient(context.getBean(ObjectMapper.class),
+                    context.getEnvironment().getRequiredProperty("local.server.port", Integer.class));
+            Map<String, Supplier<HttpRequest>> requests = prepare(context, client, members);
+
+            System.out.printf("%-12s %10s %8s %12s %10s %10s %10s %10s%n",
+                    "scenario", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+            for (String scenario : scenarios) {
+                Supplier<HttpRequest> request = requests.get(scenario.trim());
+                if (request == null) {
+                    throw new IllegalArgumentException("알 수 없는 시나리오입니다: " + scenario);
+                }
+
+                measure(scenario.trim(), request, client, threads, rate, warmup);
+                ScenarioResult result = measure(scenario.trim(), request, client, threads, rate, duration);
+                System.out.println(result);
+                results.add(result);
+            }
+        } finally {
+            context.close();
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commit", commit());
+        report.put("startedAt", startedAt.toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("members", members);
+        report.put("threads", threads);
+        report.put("rate", rate);
+        report.put("warmupSeconds", warmup.getSeconds());
+        report.put("durationSeconds", duration.getSeconds());
+        report.put("properties", properties);
+        report.put("results", results);
+
+        resultDirectory.mkdirs();
+        File resultFile = new File(resultDirectory, "loadtest-" + FILE_TIMESTAMP.format(startedAt) + ".json");
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(resultFile, report);
+        System.out.println("result: " + resultFile.getPath());
+    }
+
+    /**
+     * 관리자와 회원을 만들고, 시나리오 별 요청을 만드는 함수를 반환한다.
+     * 회원은 관리자 권한으로 bulk API 를 통해 채우며, get-member 는 미리 로그인한 일부 회원의 토큰을 돌려 쓴다.
+     */
+    private static Map<String, Supplier<HttpRequest>> prepare(ConfigurableApplicationContext context,
+                                                              LoadTestClient client, int members) {
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+
+        MemberRequestSignUpData admin = LoadTestClient.member("admin", 0);
+        client.sendExpectingSuccess(client.signUp(admin));
+        Long adminId = jwtUtil.decodeMemberId(client.accessToken(admin.getEmail()));
+        context.getBean(RoleRepository.class).save(new Role(adminId, RoleType.ADMIN));
+        context.getBean(RoleCache.class).evict(new RoleChangedEvent(adminId));
+        String adminToken = client.accessToken(admin.getEmail());
+
+        int bulkSize = context.getEnvironment().getProperty("member.bulk.max-size", Integer.class, 1000);
+        for (int from = 0; from < members; from += bulkSize) {
+            List<MemberRequestSignUpData> chunk = new ArrayList<>();
+            for (int i = from; i < Math.min(members, from + bulkSize); i++) {
+                chunk.add(LoadTestClient.member("member", i));
+            }
+            client.sendExpectingSuccess(client.signUpAll(chunk, adminToken));
+        }
+
+        int sampleSize = Math.min(members, TOKEN_SAMPLE_SIZE);
+        String[] tokens = new String[sampleSize];
+        long[] memberIds = new long[sampleSize];
+        for (int i = 0; i < sampleSize; i++) {
+            tokens[i] = client.accessToken(LoadTestClient.member("member", i).getEmail());
+            memberIds[i] = jwtUtil.decodeMemberId(tokens[i]);
+        }
+
+        int pages = Math.max(1, (members + 1) / PAGE_SIZE);
+        AtomicLong signUps = new AtomicLong();
+
+        Map<String, Supplier<HttpRequest>> requests = new LinkedHashMap<>();
+        requests.put("login", () -> client.login(LoadTestClient.member("member", random(members)).getEmail()));
+        requests.put("get-member", () -> client.getMember(memberIds[random(sampleSize)], tokens[random(sampleSize)]));
+        requests.put("sign-up", () -> client.signUp(LoadTestClient.member("signup", signUps.getAndIncrement())));
+        requests.put("admin-list", () -> client.getMembers(random(pages), PAGE_SIZE, adminToken));
+
+        Supplier<HttpRequest> login = requests.get("login");
+        Supplier<HttpRequest> getMember = requests.get("get-member");
+        Supplier<HttpRequest> signUp = requests.get("sign-up");
+        Supplier<HttpRequest> adminList = requests.get("admin-list");
+        requests.put("mixed", () -> {
+            int roll = random(100);
+            if (roll < 70) {
+                return getMember.get();
+            }
+            if (roll < 80) {
+                return login.get();
+            }
+            return roll < 90 ? signUp.get() : adminList.get();
+        });
+        return requests;
+    }
+
+    /**
+     * 스레드마다 threads / rate 초 간격의 예정 시각에 요청을 보낸다.
+     * 스레드는 예정 시각이 측정 시간 안에 있는 요청을 모두 보낸 뒤 끝나며, 응답이 늦어 밀린 요청은 기다리지 않고 바로 보낸다.
+     *
+     * @throw IllegalStateException 측정 시간이 지난 뒤에도 1분 안에 요청이 끝나지 않을 때
+     */
+    private static ScenarioResult measure(String scenario, Supplier<HttpRequest> requests, LoadTestClient client,
+                                          int threads, int rate, Duration duration) throws InterruptedException {
+        Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        LongAdder errors = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        long interval = TimeUnit.SECONDS.toNanos(threads) / rate;
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        for (int i = 0; i < threads; i++) {
+            long firstRequest = start + interval * i / threads;
+            executor.execute(() -> {
+                for (long scheduled = firstRequest; scheduled < deadline && !Thread.currentThread().isInterrupted();
+                     scheduled += interval) {
+                    long wait = scheduled - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+
+                    int status;
+                    try {
+                        status = client.status(requests.get());
+                    } catch (RuntimeException e) {
+                        status = -1;
+                    }
+                    recorder.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, (System.nanoTime() - scheduled) / 1000));
+                    if (status / 100 != 2) {
+                        errors.increment();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(duration.toMillis() + TimeUnit.MINUTES.toMillis(1), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            throw new IllegalStateException(scenario + " 시나리오의 요청이 제 시간에 끝나지 않았습니다. rate 를 낮춰 다시 실행하세요.");
+        }
+
+        return new ScenarioResult(scenario, recorder.getIntervalHistogram(), errors.sum(), System.nanoTime() - start);
+    }
+
+    /**
+     * 메모리 H2, 임의 포트, 측정 중 만료되지 않는 access token 을 기본으로 하고 인자로 받은 속성으로 덮어쓴다.
+     */
+    private static Map<String, String> properties(String overrides) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.datasource.url", "jdbc:h2:mem:loadtest");
+        properties.put("spring.jpa.properties.show_sql", "false");
+        properties.put("jwt.access-token-ttl", "1d");
+        properties.put("logging.level.root", "warn");
+
+        for (String property : overrides.split(",")) {
+            int separator = property.indexOf('=');
+            if (separator > 0) {
+                properties.put(property.substring(0, separator).trim(), property.substring(separator + 1).trim());
+            }
+        }
+        return properties;
+    }
+
+    private static int random(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    private static String commit() {
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            try (InputStream output = process.getInputStream()) {
+                String commit = new String(output.readAllBytes(), StandardCharsets.UTF_8).trim();
+                return process.waitFor() == 0 ? commit : "unknown";
+            }
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+}
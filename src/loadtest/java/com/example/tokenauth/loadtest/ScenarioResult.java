@@ -0,0 +1,77 @@
+package com.example.tokenauth.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 시나리오 하나의 측정 결과. 지연 시간은 밀리초 단위이다.
+ */
+class ScenarioResult {
+
+    private final String scenario;
+    private final long requests;
+    private final long errors;
+    private final double throughput;
+    private final double mean;
+    private final double p50;
+    private final double p99;
+    private final double p999;
+    private final double max;
+
+    /**
+     * @param histogram 마이크로초 단위로 기록된 응답 시간
+     * @param elapsedNanos 측정 구간의 길이
+     */
+    ScenarioResult(String scenario, Histogram histogram, long errors, long elapsedNanos) {
+        this.scenario = scenario;
+        this.requests = histogram.getTotalCount();
+        this.errors = errors;
+        this.throughput = requests / (elapsedNanos / 1_000_000_000.0);
+        this.mean = histogram.getMean() / 1000.0;
+        this.p50 = histogram.getValueAtPercentile(50) / 1000.0;
+        this.p99 = histogram.getValueAtPercentile(99) / 1000.0;
+        this.p999 = histogram.getValueAtPercentile(99.9) / 1000.0;
+        this.max = histogram.getMaxValue() / 1000.0;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public double getThroughput() {
+        return throughput;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getP50() {
+        return p50;
+    }
+
+    public double getP99() {
+        return p99;
+    }
+
+    public double getP999() {
+        return p999;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-12s %10d %8d %12.1f %10.2f %10.2f %10.2f %10.2f",
+                scenario, requests, errors, throughput, p50, p99, p999, max);
+    }
+}
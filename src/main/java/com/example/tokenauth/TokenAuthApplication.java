@@ -2,10 +2,16 @@ package com.example.tokenauth;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
-@SpringBootApplication
+/**
+ * R2DBC 커넥션 풀은 WebFlux 모드의 ReactiveConfig 에서만 만든다.
+ * 자동 구성을 켜 두면 서블릿 모드에도 풀이 생기고, 트랜잭션 매니저가 둘이 되어 @Transactional 이 하나를 고르지 못한다.
+ */
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class TokenAuthApplication {
 
     public static void main(String[] args) {
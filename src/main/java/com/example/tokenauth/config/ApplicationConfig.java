@@ -1,14 +1,24 @@
 package com.example.tokenauth.config;
 
+import com.example.tokenauth.domain.mapper.DirectMemberMapper;
+import com.example.tokenauth.domain.mapper.MemberMapper;
+import com.example.tokenauth.domain.mapper.ModelMapperMemberMapper;
+import com.example.tokenauth.security.CalibratedPasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+
+@Slf4j
 @Component
 @EnableJpaAuditing
+@EnableScheduling
 public class ApplicationConfig {
 
     @Bean
@@ -17,7 +27,24 @@ public class ApplicationConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public MemberMapper memberMapper(@Value("${member.mapper.use-model-mapper:false}") boolean useModelMapper,
+                                     ModelMapper modelMapper) {
+        return useModelMapper ? new ModelMapperMemberMapper(modelMapper) : new DirectMemberMapper();
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:0}") int strength,
+                                           @Value("${password.bcrypt.latency-budget:100ms}") Duration latencyBudget,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:16}") int maxStrength) {
+        if(strength > 0) {
+            return new CalibratedPasswordEncoder(strength);
+        }
+
+        CalibratedPasswordEncoder passwordEncoder =
+                CalibratedPasswordEncoder.calibrate(latencyBudget, minStrength, maxStrength);
+        log.info("BCrypt strength calibrated to {} for a {} ms budget",
+                passwordEncoder.getStrength(), latencyBudget.toMillis());
+        return passwordEncoder;
     }
 }
@@ -0,0 +1,25 @@
+package com.example.tokenauth.config;
+
+import com.example.tokenauth.security.CompiledAuthorizationInterceptor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "security.authorization.compiled", havingValue = "true")
+public class AuthorizationConfig implements WebMvcConfigurer {
+
+    private final CompiledAuthorizationInterceptor compiledAuthorizationInterceptor;
+
+    public AuthorizationConfig(CompiledAuthorizationInterceptor compiledAuthorizationInterceptor) {
+        this.compiledAuthorizationInterceptor = compiledAuthorizationInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(compiledAuthorizationInterceptor);
+    }
+}
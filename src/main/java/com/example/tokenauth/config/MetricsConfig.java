@@ -0,0 +1,21 @@
+package com.example.tokenauth.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Timed 가 붙은 메서드의 실행 시간을 기록한다.
+ * metrics.timed-aspect.enabled 를 끄면 aspect 가 등록되지 않아 프록시 비용도 사라진다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "metrics.timed-aspect.enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -2,10 +2,19 @@ package com.example.tokenauth.config;
 
 import com.example.tokenauth.filters.AuthenticationErrorFilter;
 import com.example.tokenauth.filters.JwtAuthenticationFilter;
+import com.example.tokenauth.security.CompiledHandlerMethodExclusion;
 import com.example.tokenauth.service.AuthenticationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpStatus;
+import org.springframework.security.access.method.MethodSecurityMetadataSource;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
+import org.springframework.security.config.annotation.method.configuration.GlobalMethodSecurityConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityConfigurerAdapter;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -14,13 +23,15 @@ import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import javax.servlet.Filter;
 
 @Configuration
-@EnableGlobalMethodSecurity(prePostEnabled = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig extends WebSecurityConfigurerAdapter{
 
     private final AuthenticationService authenticationService;
+    private final MeterRegistry meterRegistry;
 
-    public SecurityConfig(AuthenticationService authenticationService) {
+    public SecurityConfig(AuthenticationService authenticationService, MeterRegistry meterRegistry) {
         this.authenticationService = authenticationService;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -28,7 +39,7 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
         Filter authenticationFilter = new JwtAuthenticationFilter(
                 authenticationManager(), authenticationService);
 
-        Filter authenticationErrorFilter = new AuthenticationErrorFilter();
+        Filter authenticationErrorFilter = new AuthenticationErrorFilter(meterRegistry);
 
         http
                 .csrf().disable()
@@ -40,6 +51,37 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter{
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .exceptionHandling()
-                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED));
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+                .and()
+                // 메트릭에는 인증 오류 수, 캐시 통계, 요청 URI 별 응답 시간이 담기므로 관리자만 조회한다
+                .authorizeRequests()
+                .antMatchers("/actuator/metrics/**").hasAuthority("ADMIN")
+                .anyRequest().permitAll();
+    }
+
+    /**
+     * method security 는 항상 켜 둔다.
+     * security.authorization.compiled 를 켜면 CompiledAuthorizationInterceptor 가 확인하는 handler method 만
+     * 메타데이터에서 제외하므로, 컨트롤러에는 프록시를 만들지 않고 다른 빈의 보안 애노테이션은 그대로 확인한다.
+     */
+    @Configuration
+    @EnableGlobalMethodSecurity(prePostEnabled = true)
+    static class MethodSecurityConfig extends GlobalMethodSecurityConfiguration {
+
+        private final Environment environment;
+
+        // 이 설정은 BeanPostProcessor 보다 먼저 만들어져 @Value 를 해석할 수 없으므로 Environment 에서 읽는다
+        MethodSecurityConfig(Environment environment) {
+            this.environment = environment;
+        }
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        @Override
+        public MethodSecurityMetadataSource methodSecurityMetadataSource() {
+            MethodSecurityMetadataSource source = super.methodSecurityMetadataSource();
+            boolean compiled = environment.getProperty("security.authorization.compiled", Boolean.class, false);
+            return compiled ? new CompiledHandlerMethodExclusion(source) : source;
+        }
     }
 }
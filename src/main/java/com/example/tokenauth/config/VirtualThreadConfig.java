@@ -0,0 +1,38 @@
+package com.example.tokenauth.config;
+
+import com.example.tokenauth.utils.VirtualThreads;
+import org.apache.coyote.ProtocolHandler;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Tomcat 의 요청 처리 스레드 풀을 요청마다 가상 스레드를 만드는 executor 로 바꾼다.
+ * 컨트롤러와 그 아래의 JPA 호출이 가상 스레드에서 실행되므로, 동시 요청 수가 server.tomcat.threads.max 에 묶이지 않는다.
+ * CPU 를 점유하는 비밀번호 해싱은 그대로 PasswordHashingExecutor 의 플랫폼 스레드에서 수행한다.
+ * Java 21 이상에서만 기동할 수 있다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "server.tomcat.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Tomcat 은 외부에서 넣은 executor 를 종료하지 않으므로, 컨텍스트 종료 시 빈으로서 종료한다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService tomcatVirtualThreadExecutor() {
+        return VirtualThreads.newExecutor("tomcat-handler-");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<ProtocolHandler> virtualThreadProtocolHandlerCustomizer(
+            @Qualifier("tomcatVirtualThreadExecutor") ExecutorService tomcatVirtualThreadExecutor) {
+        return protocolHandler -> protocolHandler.setExecutor(tomcatVirtualThreadExecutor);
+    }
+}
@@ -2,7 +2,11 @@ package com.example.tokenauth.controller;
 
 import com.example.tokenauth.domain.dto.LoginRequestData;
 import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.dto.RefreshRequestData;
+import com.example.tokenauth.domain.dto.RevokeRequestData;
 import com.example.tokenauth.service.AuthenticationService;
+import com.example.tokenauth.service.PasswordHashingExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -10,26 +14,41 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(value = "/api/authenticate", produces = "application/json; charset=utf-8")
 public class AuthenticationController {
 
     private final AuthenticationService authenticationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public AuthenticationController(AuthenticationService authenticationService) {
+    public AuthenticationController(AuthenticationService authenticationService,
+                                    PasswordHashingExecutor passwordHashingExecutor) {
         this.authenticationService = authenticationService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping
-    public ResponseEntity<LoginResponseData> login(@RequestBody LoginRequestData loginRequestData) {
+    public CompletableFuture<ResponseEntity<LoginResponseData>> login(@RequestBody LoginRequestData loginRequestData) {
 
         String email = loginRequestData.getEmail();
         String password = loginRequestData.getPassword();
 
-        String accessToken = authenticationService.login(email, password);
+        return passwordHashingExecutor.submit(() -> authenticationService.login(email, password))
+                .thenApply(loginResponseData -> ResponseEntity.status(HttpStatus.OK).body(loginResponseData));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponseData> refresh(@RequestBody RefreshRequestData refreshRequestData) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(authenticationService.refresh(refreshRequestData.getRefreshToken()));
+    }
 
-        return ResponseEntity.status(HttpStatus.OK).body(LoginResponseData.builder()
-                .accessToken(accessToken)
-                .build());
+    @PostMapping("/revoke")
+    public ResponseEntity<Void> revoke(@RequestBody RevokeRequestData revokeRequestData) {
+        authenticationService.revoke(revokeRequestData.getAccessToken());
+        return ResponseEntity.noContent().build();
     }
 }
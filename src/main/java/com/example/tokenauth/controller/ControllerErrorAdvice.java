@@ -1,9 +1,16 @@
 package com.example.tokenauth.controller;
 
 import com.example.tokenauth.domain.dto.ErrorResponse;
+import com.example.tokenauth.errors.BulkSignUpLimitExceededException;
+import com.example.tokenauth.errors.InvalidCursorException;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import com.example.tokenauth.errors.InvalidTokenException;
 import com.example.tokenauth.errors.LoginFailException;
 import com.example.tokenauth.errors.MemberEmailDuplicationException;
 import com.example.tokenauth.errors.MemberNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -12,19 +19,47 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import java.util.concurrent.RejectedExecutionException;
+
 @ResponseBody
 @ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ControllerErrorAdvice {
 
+    private final Counter emailDuplications;
+    private final Counter loginFailures;
+    private final Counter invalidTokens;
+    private final Counter invalidRefreshTokens;
+
+    public ControllerErrorAdvice(MeterRegistry meterRegistry) {
+        this.emailDuplications = errorCounter(meterRegistry, MemberEmailDuplicationException.class);
+        this.loginFailures = errorCounter(meterRegistry, LoginFailException.class);
+        this.invalidTokens = errorCounter(meterRegistry, InvalidTokenException.class);
+        this.invalidRefreshTokens = errorCounter(meterRegistry, InvalidRefreshTokenException.class);
+    }
+
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException exception) {
         return new ErrorResponse(exception.getBindingResult().getAllErrors().get(0).getDefaultMessage());
     }
 
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(BulkSignUpLimitExceededException.class)
+    public ErrorResponse handleBulkSignUpLimitExceededException(BulkSignUpLimitExceededException exception) {
+        return new ErrorResponse(exception.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(InvalidCursorException.class)
+    public ErrorResponse handleInvalidCursorException(InvalidCursorException exception) {
+        return new ErrorResponse(exception.getMessage());
+    }
+
     @ResponseStatus(HttpStatus.CONFLICT)
     @ExceptionHandler(MemberEmailDuplicationException.class)
     public ErrorResponse handleMemberEmailDuplicationException(MemberEmailDuplicationException exception) {
+        emailDuplications.increment();
         return new ErrorResponse(exception.getMessage());
     }
 
@@ -37,13 +72,37 @@ public class ControllerErrorAdvice {
     @ResponseStatus(HttpStatus.UNAUTHORIZED)
     @ExceptionHandler(LoginFailException.class)
     public ErrorResponse handleLoginFailException(LoginFailException exception) {
+        loginFailures.increment();
+        return new ErrorResponse(exception.getMessage());
+    }
+
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ErrorResponse handleInvalidRefreshTokenException(InvalidRefreshTokenException exception) {
+        invalidRefreshTokens.increment();
         return new ErrorResponse(exception.getMessage());
     }
 
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    @ExceptionHandler(InvalidTokenException.class)
+    public ErrorResponse handleInvalidTokenException(InvalidTokenException exception) {
+        invalidTokens.increment();
+        return new ErrorResponse("유효하지 않은 토큰 입니다.");
+    }
+
     @ResponseStatus(HttpStatus.FORBIDDEN)
     @ExceptionHandler(AccessDeniedException.class)
     public ErrorResponse handleLoginAccessDeniedException(AccessDeniedException exception) {
         return new ErrorResponse("접근 불가");
     }
 
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ErrorResponse handleRejectedExecutionException(RejectedExecutionException exception) {
+        return new ErrorResponse("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+    }
+
+    private static Counter errorCounter(MeterRegistry meterRegistry, Class<? extends Exception> exception) {
+        return meterRegistry.counter("auth.errors", "exception", exception.getSimpleName());
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.tokenauth.controller;
+
+import com.example.tokenauth.security.SigningKeyRing;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "jwt.signing.algorithm", havingValue = "es256")
+public class JwksController {
+
+    private final SigningKeyRing signingKeyRing;
+    private final CacheControl cacheControl;
+
+    public JwksController(SigningKeyRing signingKeyRing,
+                          @Value("${jwt.signing.jwks-max-age:5m}") Duration maxAge) {
+        this.signingKeyRing = signingKeyRing;
+        this.cacheControl = CacheControl.maxAge(maxAge).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = "application/jwk-set+json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.status(HttpStatus.OK)
+                .cacheControl(cacheControl)
+                .body(signingKeyRing.jwks());
+    }
+}
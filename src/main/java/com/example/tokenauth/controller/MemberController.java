@@ -1,11 +1,17 @@
 package com.example.tokenauth.controller;
 
 import com.example.tokenauth.domain.dto.ErrorResponse;
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData;
+import com.example.tokenauth.domain.dto.MemberCursorResponseData;
 import com.example.tokenauth.domain.dto.MemberModificationData;
 import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
 import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.security.MemberAuthentication;
+import com.example.tokenauth.service.MemberBulkService;
+import com.example.tokenauth.service.MemberExportService;
 import com.example.tokenauth.service.MemberService;
+import com.example.tokenauth.service.PasswordHashingExecutor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
@@ -13,22 +19,46 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(value = "/api/members", produces = "application/json; charset=utf-8")
 public class MemberController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final MemberService memberService;
+    private final MemberBulkService memberBulkService;
+    private final MemberExportService memberExportService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
-    public MemberController(MemberService memberService) {
+    public MemberController(MemberService memberService, MemberBulkService memberBulkService,
+                            MemberExportService memberExportService,
+                            PasswordHashingExecutor passwordHashingExecutor) {
         this.memberService = memberService;
+        this.memberBulkService = memberBulkService;
+        this.memberExportService = memberExportService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @PostMapping
-    public ResponseEntity<MemberResponseData> signUp(@RequestBody
+    public CompletableFuture<ResponseEntity<MemberResponseData>> signUp(@RequestBody
                                                          @Valid MemberRequestSignUpData memberRequestSignUpData) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(memberService.signUp(memberRequestSignUpData));
+        return passwordHashingExecutor.submit(() -> memberService.signUp(memberRequestSignUpData))
+                .thenApply(member -> ResponseEntity.status(HttpStatus.CREATED).body(member));
+    }
+
+    @PostMapping("/bulk")
+    @PreAuthorize("isAuthenticated() and hasAnyAuthority('ADMIN')")
+    public ResponseEntity<List<MemberBulkSignUpResultData>> signUpAll(@RequestBody
+                                                                       List<MemberRequestSignUpData> signUpData) {
+        return ResponseEntity.status(HttpStatus.OK).body(memberBulkService.signUpAll(signUpData));
     }
 
     @GetMapping("/exists/{email}")
@@ -59,4 +89,19 @@ public class MemberController {
     public ResponseEntity<Slice<MemberResponseData>> getMembers(Pageable pageable) {
         return ResponseEntity.status(HttpStatus.OK).body(memberService.getMembers(pageable));
     }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @PreAuthorize("isAuthenticated() and hasAnyAuthority('ADMIN')")
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        memberExportService.export(response.getOutputStream());
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("isAuthenticated() and hasAnyAuthority('ADMIN')")
+    public ResponseEntity<MemberCursorResponseData> getMembersAfter(@RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.status(HttpStatus.OK).body(memberService.getMembersAfter(cursor, size));
+    }
 }
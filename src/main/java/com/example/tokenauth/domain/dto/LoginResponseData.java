@@ -9,4 +9,5 @@ import lombok.*;
 @AllArgsConstructor
 public class LoginResponseData {
     private String accessToken;
+    private String refreshToken;
 }
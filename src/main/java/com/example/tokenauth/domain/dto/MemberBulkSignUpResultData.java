@@ -0,0 +1,18 @@
+package com.example.tokenauth.domain.dto;
+
+import lombok.*;
+
+@Getter @Setter @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberBulkSignUpResultData {
+
+    public enum Status {
+        CREATED, DUPLICATED, INVALID
+    }
+
+    private int index;
+    private String email;
+    private Status status;
+    private String message;
+}
@@ -0,0 +1,13 @@
+package com.example.tokenauth.domain.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberCursorResponseData {
+    private List<MemberResponseData> content;
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package com.example.tokenauth.domain.dto;
+
+import lombok.*;
+
+@Setter
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RevokeRequestData {
+    private String accessToken;
+}
@@ -8,14 +8,27 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.SequenceGenerator;
+import javax.persistence.Table;
 
 @Entity
 @Getter @Builder @Setter
 @AllArgsConstructor @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = Member.EMAIL_UNIQUE_INDEX, columnList = "email", unique = true),
+        @Index(name = "ix_member_created_date", columnList = "createdDate")
+})
 public class Member extends BaseEntity {
 
+    /**
+     * 이메일 중복을 막는 unique 인덱스의 이름. 가입 시 이 인덱스의 위반만 이메일 중복으로 처리한다.
+     */
+    public static final String EMAIL_UNIQUE_INDEX = "ux_member_email";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = 50)
     private Long id;
     private String email;
     private String password;
@@ -0,0 +1,46 @@
+package com.example.tokenauth.domain.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 Access Token 의 jti.
+ * 토큰이 만료된 뒤에는 더 이상 확인할 필요가 없으므로 만료 시각이 지나면 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        @Index(name = "ix_revoked_token_revoked_at", columnList = "revokedAt"),
+        @Index(name = "ix_revoked_token_expires_at", columnList = "expiresAt")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private Long memberId;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    private LocalDateTime revokedAt;
+
+    public RevokedToken(String tokenId, Long memberId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+        this.tokenId = tokenId;
+        this.memberId = memberId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+}
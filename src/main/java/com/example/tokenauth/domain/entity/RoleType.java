@@ -1,5 +1,12 @@
 package com.example.tokenauth.domain.entity;
 
 public enum RoleType {
-    ADMIN, USER
+    ADMIN, USER;
+
+    /**
+     * @return 이 권한의 ordinal 번째 비트만 켜진 mask
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
 }
@@ -0,0 +1,19 @@
+package com.example.tokenauth.domain.event;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import lombok.Getter;
+
+/**
+ * 회원 정보가 수정되었음을 알리는 이벤트.
+ */
+@Getter
+public class MemberModifiedEvent {
+
+    private final Long memberId;
+    private final MemberResponseData member;
+
+    public MemberModifiedEvent(Long memberId, MemberResponseData member) {
+        this.memberId = memberId;
+        this.member = member;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.tokenauth.domain.event;
+
+import lombok.Getter;
+
+/**
+ * 회원의 권한이 추가, 변경, 삭제되었음을 알리는 이벤트.
+ */
+@Getter
+public class RoleChangedEvent {
+
+    private final Long memberId;
+
+    public RoleChangedEvent(Long memberId) {
+        this.memberId = memberId;
+    }
+}
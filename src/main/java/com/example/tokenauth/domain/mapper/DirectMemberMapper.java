@@ -0,0 +1,29 @@
+package com.example.tokenauth.domain.mapper;
+
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.entity.Member;
+
+/**
+ * getter 와 builder 를 직접 호출하는 MemberMapper.
+ * 리플렉션이나 type map 조회 없이 컴파일 시점에 결정된 코드로만 변환한다.
+ */
+public class DirectMemberMapper implements MemberMapper {
+
+    @Override
+    public MemberResponseData toResponseData(Member member) {
+        return MemberResponseData.builder()
+                .email(member.getEmail())
+                .nickname(member.getNickname())
+                .build();
+    }
+
+    @Override
+    public Member toMember(MemberRequestSignUpData signUpData, String encodedPassword) {
+        return Member.builder()
+                .email(signUpData.getEmail())
+                .nickname(signUpData.getNickname())
+                .password(encodedPassword)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.tokenauth.domain.mapper;
+
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.entity.Member;
+
+/**
+ * 회원 엔티티와 DTO 사이의 변환을 담당한다.
+ */
+public interface MemberMapper {
+
+    /**
+     * @param member 변환할 회원
+     * @return 회원의 이메일과 닉네임
+     */
+    MemberResponseData toResponseData(Member member);
+
+    /**
+     * @param signUpData 회원가입 요청 데이터
+     * @param encodedPassword 해싱된 비밀번호
+     * @return 저장되지 않은 새 회원
+     */
+    Member toMember(MemberRequestSignUpData signUpData, String encodedPassword);
+}
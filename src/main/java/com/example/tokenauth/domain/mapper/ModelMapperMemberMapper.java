@@ -0,0 +1,39 @@
+package com.example.tokenauth.domain.mapper;
+
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.entity.Member;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeMap;
+
+/**
+ * ModelMapper 를 사용하는 MemberMapper.
+ * type map 은 요청마다 찾지 않도록 생성 시점에 만들어 두며, DirectMemberMapper 를 사용할 수 없을 때를 위해 남겨둔다.
+ */
+public class ModelMapperMemberMapper implements MemberMapper {
+
+    private final TypeMap<Member, MemberResponseData> responseDataTypeMap;
+    private final TypeMap<MemberRequestSignUpData, Member> memberTypeMap;
+
+    public ModelMapperMemberMapper(ModelMapper modelMapper) {
+        this.responseDataTypeMap = typeMap(modelMapper, Member.class, MemberResponseData.class);
+        this.memberTypeMap = typeMap(modelMapper, MemberRequestSignUpData.class, Member.class);
+    }
+
+    @Override
+    public MemberResponseData toResponseData(Member member) {
+        return responseDataTypeMap.map(member);
+    }
+
+    @Override
+    public Member toMember(MemberRequestSignUpData signUpData, String encodedPassword) {
+        Member member = memberTypeMap.map(signUpData);
+        member.setPassword(encodedPassword);
+        return member;
+    }
+
+    private static <S, D> TypeMap<S, D> typeMap(ModelMapper modelMapper, Class<S> source, Class<D> destination) {
+        TypeMap<S, D> typeMap = modelMapper.getTypeMap(source, destination);
+        return typeMap != null ? typeMap : modelMapper.createTypeMap(source, destination);
+    }
+}
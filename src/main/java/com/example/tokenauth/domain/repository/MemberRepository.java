@@ -1,14 +1,47 @@
 package com.example.tokenauth.domain.repository;
 
+import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.domain.entity.Member;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     boolean existsByEmail(String email);
+
+    Slice<Member> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select m.email from Member m where m.email in :emails")
+    List<String> findAllEmailsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query("select m.email from Member m where m.createdDate > :since")
+    List<String> findAllEmailsByCreatedDateAfter(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select m.email from Member m")
+    Stream<String> streamAllEmails();
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select new com.example.tokenauth.domain.dto.MemberResponseData(m.email, m.nickname) " +
+            "from Member m order by m.id")
+    Stream<MemberResponseData> streamAllMembers();
 }
@@ -0,0 +1,32 @@
+package com.example.tokenauth.domain.repository;
+
+import com.example.tokenauth.domain.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READONLY, value = "true")
+    })
+    @Query("select r from RevokedToken r where r.expiresAt > :now")
+    Stream<RevokedToken> streamAllUnexpired(@Param("now") LocalDateTime now);
+
+    List<RevokedToken> findAllByRevokedAtAfter(LocalDateTime revokedAt);
+
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int removeAllExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,7 @@
+package com.example.tokenauth.errors;
+
+public class BulkSignUpLimitExceededException extends RuntimeException {
+    public BulkSignUpLimitExceededException(int maxSize) {
+        super("한 번에 최대 " + maxSize + "명까지 가입할 수 있습니다.");
+    }
+}
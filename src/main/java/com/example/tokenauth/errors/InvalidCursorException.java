@@ -0,0 +1,7 @@
+package com.example.tokenauth.errors;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("올바르지 않은 cursor 입니다: " + cursor);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.tokenauth.errors;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException() {
+        super("유효하지 않은 refresh token 입니다.");
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.tokenauth.errors;
 
+/**
+ * 잘못된 토큰은 공격이나 스캔 중에 대량으로 들어올 수 있으므로 stack trace 를 만들지 않는다.
+ */
 public class InvalidTokenException extends RuntimeException {
     public InvalidTokenException(String token) {
-        super(token);
+        super(token, null, false, false);
     }
 }
@@ -1,6 +1,8 @@
 package com.example.tokenauth.filters;
 
 import com.example.tokenauth.errors.InvalidTokenException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.http.HttpStatus;
 
 import javax.servlet.FilterChain;
@@ -10,7 +12,19 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
+/**
+ * 토큰 검증 실패를 401 로 응답한다.
+ * sendError 는 오류 페이지로 다시 dispatch 하므로, 상태 코드만 설정하고 본문 없이 끝낸다.
+ */
 public class AuthenticationErrorFilter extends HttpFilter {
+
+    private final Counter invalidTokens;
+
+    public AuthenticationErrorFilter(MeterRegistry meterRegistry) {
+        this.invalidTokens = meterRegistry.counter("auth.errors",
+                "exception", InvalidTokenException.class.getSimpleName());
+    }
+
     @Override
     protected void doFilter(HttpServletRequest request,
                             HttpServletResponse response,
@@ -18,7 +32,8 @@ public class AuthenticationErrorFilter extends HttpFilter {
         try {
             chain.doFilter(request, response);
         } catch (InvalidTokenException e) {
-            response.sendError(HttpStatus.UNAUTHORIZED.value());
+            invalidTokens.increment();
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
         }
     }
 }
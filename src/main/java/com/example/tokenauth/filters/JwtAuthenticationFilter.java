@@ -1,7 +1,8 @@
 package com.example.tokenauth.filters;
 
-import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.security.BearerToken;
 import com.example.tokenauth.security.MemberAuthentication;
+import com.example.tokenauth.security.VerifiedToken;
 import com.example.tokenauth.service.AuthenticationService;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.core.Authentication;
@@ -14,7 +15,6 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.util.List;
 
 public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
 
@@ -33,12 +33,14 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         String authorization = request.getHeader("Authorization");
 
         if(authorization != null) {
-            String accessToken = authorization.substring("Bearer ".length());
+            String accessToken = BearerToken.extract(authorization);
 
-            Long memberId = authenticationService.parseToken(accessToken);
-            List<Role> roles = authenticationService.roles(memberId);
+            VerifiedToken verifiedToken = authenticationService.parseAccessToken(accessToken);
+            Long memberId = verifiedToken.getMemberId();
 
-            Authentication memberAuthentication = new MemberAuthentication(memberId, roles);
+            Authentication memberAuthentication = verifiedToken.hasRoleTypes()
+                    ? new MemberAuthentication(memberId, verifiedToken.getRoleTypes())
+                    : new MemberAuthentication(memberId, authenticationService.roles(memberId));
 
             SecurityContext context = SecurityContextHolder.getContext();
             context.setAuthentication(memberAuthentication);
@@ -0,0 +1,49 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.LoginRequestData;
+import com.example.tokenauth.domain.dto.RefreshRequestData;
+import com.example.tokenauth.domain.dto.RevokeRequestData;
+import com.example.tokenauth.service.AuthenticationService;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+/**
+ * AuthenticationController 와 같은 계약의 /api/authenticate handler.
+ */
+public class AuthenticationHandler {
+
+    private final AuthenticationService authenticationService;
+    private final ReactiveAuthenticationService reactiveAuthenticationService;
+    private final BlockingCalls blockingCalls;
+
+    public AuthenticationHandler(AuthenticationService authenticationService,
+                                 ReactiveAuthenticationService reactiveAuthenticationService,
+                                 BlockingCalls blockingCalls) {
+        this.authenticationService = authenticationService;
+        this.reactiveAuthenticationService = reactiveAuthenticationService;
+        this.blockingCalls = blockingCalls;
+    }
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return request.bodyToMono(LoginRequestData.class)
+                .flatMap(data -> blockingCalls.hashing(
+                        () -> authenticationService.login(data.getEmail(), data.getPassword())))
+                .flatMap(loginResponseData -> ServerResponse.ok().bodyValue(loginResponseData));
+    }
+
+    public Mono<ServerResponse> refresh(ServerRequest request) {
+        return request.bodyToMono(RefreshRequestData.class)
+                .flatMap(data -> reactiveAuthenticationService.refresh(data.getRefreshToken()))
+                .flatMap(loginResponseData -> ServerResponse.ok().bodyValue(loginResponseData));
+    }
+
+    public Mono<ServerResponse> revoke(ServerRequest request) {
+        return request.bodyToMono(RevokeRequestData.class)
+                .flatMap(data -> blockingCalls.jdbc(() -> {
+                    authenticationService.revoke(data.getAccessToken());
+                    return data;
+                }))
+                .flatMap(data -> ServerResponse.noContent().build());
+    }
+}
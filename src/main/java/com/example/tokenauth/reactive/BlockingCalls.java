@@ -0,0 +1,34 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.service.PasswordHashingExecutor;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * 블로킹 작업을 이벤트 루프 밖에서 수행하는 Mono 를 만든다.
+ *
+ * 저장소 조회는 커넥션 풀 크기에 맞춘 jdbcScheduler 에서, 비밀번호 해싱이 포함된 작업은
+ * 서블릿 모드와 같은 PasswordHashingExecutor 에서 수행한다.
+ * 두 곳 모두 대기열이 가득 차면 RejectedExecutionException 으로 끝난다.
+ */
+public class BlockingCalls {
+
+    private final Scheduler jdbcScheduler;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BlockingCalls(Scheduler jdbcScheduler, PasswordHashingExecutor passwordHashingExecutor) {
+        this.jdbcScheduler = jdbcScheduler;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    public <T> Mono<T> jdbc(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(jdbcScheduler);
+    }
+
+    public <T> Mono<T> hashing(Supplier<T> task) {
+        return Mono.defer(() -> Mono.fromFuture(passwordHashingExecutor.submit(task)));
+    }
+}
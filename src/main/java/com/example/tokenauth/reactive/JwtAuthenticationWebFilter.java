@@ -0,0 +1,72 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.security.BearerToken;
+import com.example.tokenauth.security.MemberAuthentication;
+import com.example.tokenauth.security.VerifiedToken;
+import com.example.tokenauth.service.AuthenticationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JwtAuthenticationFilter 와 AuthenticationErrorFilter 의 WebFlux 버전.
+ *
+ * 토큰 검증은 CPU 만 사용하므로 이벤트 루프에서 수행하고,
+ * 토큰에 권한이 담겨 있지 않다면 R2DBC 로 권한을 조회하므로 어느 경우에도 스레드를 점유하지 않는다.
+ */
+public class JwtAuthenticationWebFilter implements WebFilter {
+
+    private final AuthenticationService authenticationService;
+    private final ReactiveAuthenticationService reactiveAuthenticationService;
+    private final Counter invalidTokens;
+
+    public JwtAuthenticationWebFilter(AuthenticationService authenticationService,
+                                      ReactiveAuthenticationService reactiveAuthenticationService,
+                                      MeterRegistry meterRegistry) {
+        this.authenticationService = authenticationService;
+        this.reactiveAuthenticationService = reactiveAuthenticationService;
+        this.invalidTokens = meterRegistry.counter("auth.errors",
+                "exception", InvalidTokenException.class.getSimpleName());
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+
+        if(authorization == null) {
+            return chain.filter(exchange);
+        }
+
+        VerifiedToken verifiedToken;
+        try {
+            verifiedToken = authenticationService.parseAccessToken(BearerToken.extract(authorization));
+        } catch (InvalidTokenException e) {
+            invalidTokens.increment();
+            exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+            return exchange.getResponse().setComplete();
+        }
+
+        return authentication(verifiedToken)
+                .flatMap(authentication -> chain.filter(exchange)
+                        .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication)));
+    }
+
+    private Mono<? extends Authentication> authentication(VerifiedToken verifiedToken) {
+        Long memberId = verifiedToken.getMemberId();
+
+        if(verifiedToken.hasRoleTypes()) {
+            return Mono.just(new MemberAuthentication(memberId, verifiedToken.getRoleTypes()));
+        }
+
+        return reactiveAuthenticationService.roles(memberId)
+                .map(roles -> new MemberAuthentication(memberId, roles));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.MemberCursorResponseData;
+import com.example.tokenauth.domain.dto.MemberModificationData;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.errors.MemberNotFoundException;
+import com.example.tokenauth.security.MemberAuthentication;
+import com.example.tokenauth.service.MemberBulkService;
+import com.example.tokenauth.service.MemberCache;
+import com.example.tokenauth.service.MemberService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * MemberController 와 같은 계약의 /api/members handler.
+ * 권한 검사는 ReactiveConfig 의 SecurityWebFilterChain 에서 경로별로 수행한다.
+ * 요청마다 호출되는 단건 조회는 R2DBC 로, 비밀번호 해싱이 포함되거나 관리자만 호출하는 나머지는 BlockingCalls 로 수행한다.
+ */
+public class MemberHandler {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_PAGE_SIZE = 100;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 2000;
+
+    private final MemberService memberService;
+    private final MemberBulkService memberBulkService;
+    private final MemberCache memberCache;
+    private final ReactiveMemberRepository memberRepository;
+    private final Validator validator;
+    private final BlockingCalls blockingCalls;
+
+    public MemberHandler(MemberService memberService, MemberBulkService memberBulkService,
+                         MemberCache memberCache, ReactiveMemberRepository memberRepository,
+                         Validator validator, BlockingCalls blockingCalls) {
+        this.memberService = memberService;
+        this.memberBulkService = memberBulkService;
+        this.memberCache = memberCache;
+        this.memberRepository = memberRepository;
+        this.validator = validator;
+        this.blockingCalls = blockingCalls;
+    }
+
+    public Mono<ServerResponse> signUp(ServerRequest request) {
+        return request.bodyToMono(MemberRequestSignUpData.class)
+                .flatMap(data -> validated(data, valid -> blockingCalls.hashing(() -> memberService.signUp(valid))
+                        .flatMap(member -> ServerResponse.status(HttpStatus.CREATED).bodyValue(member))));
+    }
+
+    public Mono<ServerResponse> signUpAll(ServerRequest request) {
+        return request.bodyToFlux(MemberRequestSignUpData.class)
+                .collectList()
+                .flatMap(data -> blockingCalls.jdbc(() -> memberBulkService.signUpAll(data)))
+                .flatMap(results -> ServerResponse.ok().bodyValue(results));
+    }
+
+    public Mono<ServerResponse> exists(ServerRequest request) {
+        String email = request.pathVariable("email");
+        return blockingCalls.jdbc(() -> memberService.isExistsEmail(email))
+                .flatMap(exists -> ServerResponse.ok().build());
+    }
+
+    public Mono<ServerResponse> modify(ServerRequest request) {
+        Long targetId = Long.valueOf(request.pathVariable("id"));
+        return request.principal()
+                .cast(MemberAuthentication.class)
+                .zipWith(request.bodyToMono(MemberModificationData.class))
+                .flatMap(tuple -> validated(tuple.getT2(), data -> blockingCalls.jdbc(
+                                () -> memberService.modify(targetId, data, tuple.getT1().getPrincipal()))
+                        .flatMap(member -> ServerResponse.ok().bodyValue(member))));
+    }
+
+    /**
+     * MemberService.getMember 와 같은 캐시를 거쳐, 캐시에 없을 때만 R2DBC 로 조회한다.
+     */
+    public Mono<ServerResponse> getMember(ServerRequest request) {
+        Long id = Long.valueOf(request.pathVariable("id"));
+        return Mono.defer(() -> Mono.fromFuture(memberCache.getAsync(id,
+                        memberId -> memberRepository.findResponseDataById(memberId).toFuture())))
+                .switchIfEmpty(Mono.error(() -> new MemberNotFoundException(id)))
+                .flatMap(member -> ServerResponse.ok().bodyValue(member));
+    }
+
+    public Mono<ServerResponse> getMembers(ServerRequest request) {
+        Pageable pageable = pageable(request);
+        return blockingCalls.jdbc(() -> memberService.getMembers(pageable))
+                .flatMap(members -> ServerResponse.ok().bodyValue(members));
+    }
+
+    /**
+     * 서블릿 모드의 단일 스트리밍 쿼리 대신 ID cursor 로 나누어 읽는다.
+     * 클라이언트가 읽는 속도에 맞추어 다음 페이지를 조회하므로 커넥션을 오래 점유하지 않는다.
+     */
+    public Mono<ServerResponse> export(ServerRequest request) {
+        Flux<MemberResponseData> members = page(null)
+                .expand(page -> page.getNextCursor() == null ? Mono.empty() : page(page.getNextCursor()))
+                .concatMapIterable(MemberCursorResponseData::getContent);
+
+        return ServerResponse.ok().contentType(NDJSON).body(members, MemberResponseData.class);
+    }
+
+    public Mono<ServerResponse> getMembersAfter(ServerRequest request) {
+        String cursor = request.queryParam("cursor").orElse(null);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+        return blockingCalls.jdbc(() -> memberService.getMembersAfter(cursor, size))
+                .flatMap(members -> ServerResponse.ok().bodyValue(members));
+    }
+
+    private Mono<MemberCursorResponseData> page(String cursor) {
+        return blockingCalls.jdbc(() -> memberService.getMembersAfter(cursor, EXPORT_PAGE_SIZE));
+    }
+
+    private <T> Mono<ServerResponse> validated(T data, Function<T, Mono<ServerResponse>> handler) {
+        Set<ConstraintViolation<T>> violations = validator.validate(data);
+        if(!violations.isEmpty()) {
+            return ReactiveErrorHandler.error(HttpStatus.BAD_REQUEST, violations.iterator().next().getMessage());
+        }
+        return handler.apply(data);
+    }
+
+    /**
+     * Spring Data 의 Pageable 인자와 같은 page, size, sort 파라미터를 읽는다.
+     */
+    private static Pageable pageable(ServerRequest request) {
+        int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(DEFAULT_PAGE_SIZE);
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String sort : request.queryParams().getOrDefault("sort", List.of())) {
+            String[] parts = sort.split(",");
+            Sort.Direction direction = parts.length > 1
+                    ? Sort.Direction.fromOptionalString(parts[parts.length - 1]).orElse(null)
+                    : null;
+            int propertyCount = direction == null ? parts.length : parts.length - 1;
+            for (int i = 0; i < propertyCount; i++) {
+                orders.add(new Sort.Order(direction == null ? Sort.Direction.ASC : direction, parts[i]));
+            }
+        }
+
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)), Sort.by(orders));
+    }
+}
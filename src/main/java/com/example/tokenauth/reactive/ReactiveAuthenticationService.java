@@ -0,0 +1,100 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import com.example.tokenauth.service.RefreshTokenService;
+import com.example.tokenauth.service.RoleCache;
+import com.example.tokenauth.utils.JwtUtil;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * AuthenticationService 중 요청마다 저장소를 조회하는 권한 조회와 토큰 갱신을 R2DBC 로 수행한다.
+ *
+ * 캐시와 토큰 형식은 서블릿 모드와 공유하므로 어느 모드에서 발급한 토큰이든 그대로 사용할 수 있다.
+ */
+public class ReactiveAuthenticationService {
+
+    private final ReactiveRoleRepository roleRepository;
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final RoleCache roleCache;
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
+    private final boolean embedRoles;
+
+    public ReactiveAuthenticationService(ReactiveRoleRepository roleRepository,
+                                         ReactiveRefreshTokenRepository refreshTokenRepository,
+                                         RoleCache roleCache, RefreshTokenService refreshTokenService,
+                                         JwtUtil jwtUtil, boolean embedRoles) {
+        this.roleRepository = roleRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.roleCache = roleCache;
+        this.refreshTokenService = refreshTokenService;
+        this.jwtUtil = jwtUtil;
+        this.embedRoles = embedRoles;
+    }
+
+    /**
+     * AuthenticationService.roles 와 같은 캐시를 거쳐 회원의 권한을 조회한다.
+     *
+     * @param memberId 권한을 조회하려는 회원 ID
+     * @return 권한 리스트
+     */
+    public Mono<List<Role>> roles(Long memberId) {
+        return Mono.defer(() -> Mono.fromFuture(roleCache.getAsync(memberId,
+                id -> roleRepository.findAllByMemberId(id).collectList().toFuture())));
+    }
+
+    /**
+     * Refresh Token 을 소비하고 새 Access Token 과 Refresh Token 을 발급한다.
+     *
+     * @param refreshToken 로그인 또는 이전 갱신에서 발급받은 Refresh Token
+     * @return 새로 발급한 Access Token 과 Refresh Token
+     * @throw InvalidRefreshTokenException 존재하지 않거나, 이미 사용되었거나, 만료된 토큰일 때
+     */
+    public Mono<LoginResponseData> refresh(String refreshToken) {
+        return consume(refreshToken).flatMap(this::issueTokens);
+    }
+
+    /**
+     * RefreshTokenService.consume 과 같이 삭제에 성공한 한 요청만 통과시킨다.
+     */
+    private Mono<Long> consume(String token) {
+        if(token == null || token.isBlank()) {
+            return Mono.error(new InvalidRefreshTokenException());
+        }
+
+        return refreshTokenRepository.findByTokenHash(RefreshTokenService.hash(token))
+                .switchIfEmpty(Mono.error(InvalidRefreshTokenException::new))
+                .flatMap(stored -> refreshTokenRepository.removeById(stored.getId())
+                        .flatMap(removed -> removed != 1 || stored.isExpired(LocalDateTime.now())
+                                ? Mono.error(new InvalidRefreshTokenException())
+                                : Mono.just(stored.getMemberId())));
+    }
+
+    private Mono<LoginResponseData> issueTokens(Long memberId) {
+        String refreshToken = refreshTokenService.newToken();
+        Mono<Integer> saved = refreshTokenRepository.save(memberId, RefreshTokenService.hash(refreshToken),
+                refreshTokenService.expiresAt(LocalDateTime.now()));
+
+        return Mono.zip(accessToken(memberId), saved)
+                .map(tuple -> LoginResponseData.builder()
+                        .accessToken(tuple.getT1())
+                        .refreshToken(refreshToken)
+                        .build());
+    }
+
+    private Mono<String> accessToken(Long memberId) {
+        if(!embedRoles) {
+            return Mono.fromSupplier(() -> jwtUtil.encode(memberId));
+        }
+
+        return roles(memberId).map(roles -> jwtUtil.encode(memberId, roles.stream()
+                .map(Role::getRoleType)
+                .collect(Collectors.toList())));
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.ErrorResponse;
+import com.example.tokenauth.security.SigningKeyRing;
+import com.example.tokenauth.service.AuthenticationService;
+import com.example.tokenauth.service.MemberBulkService;
+import com.example.tokenauth.service.MemberCache;
+import com.example.tokenauth.service.MemberService;
+import com.example.tokenauth.service.PasswordHashingExecutor;
+import com.example.tokenauth.service.RefreshTokenService;
+import com.example.tokenauth.service.RoleCache;
+import com.example.tokenauth.utils.JwtUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.validation.Validator;
+import java.time.Duration;
+
+/**
+ * spring.main.web-application-type=reactive 로 기동했을 때의 WebFlux 구성.
+ *
+ * 서블릿 모드와 같은 /api/authenticate, /api/members 계약을 Netty 이벤트 루프 위에서 제공한다.
+ * 요청마다 저장소를 조회하는 권한 조회, 회원 단건 조회, 토큰 갱신은 R2DBC 커넥션 풀로 수행하므로
+ * 동시 요청 수가 스레드 수에 묶이지 않는다.
+ * 비밀번호 해싱이 포함된 가입과 로그인은 해싱 스레드 풀에서, 관리자 조회와 회원 수정처럼 드문 요청은
+ * 기존 JPA 저장소를 jdbcScheduler 에서 호출한다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * JDBC 와 같은 데이터베이스를 같은 계정으로 가리키는 R2DBC 커넥션 풀.
+     * 서블릿 모드에는 필요 없으므로 R2DBC 자동 구성 대신 이 모드에서만 만든다.
+     * ConnectionFactory 타입의 빈이 있으면 DataSourceAutoConfiguration 이 물러나 JPA 가 동작하지 않으므로 Disposable 로 선언한다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Disposable r2dbcConnectionPool(@Value("${reactive.r2dbc.url:r2dbc:h2:mem:///auth}") String url,
+                                          @Value("${spring.datasource.username:}") String username,
+                                          @Value("${spring.datasource.password:}") String password,
+                                          @Value("${reactive.r2dbc.pool-size:10}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .initialSize(1)
+                .maxSize(poolSize)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(@Qualifier("r2dbcConnectionPool") Disposable r2dbcConnectionPool) {
+        return DatabaseClient.create((ConnectionFactory) r2dbcConnectionPool);
+    }
+
+    @Bean
+    public ReactiveAuthenticationService reactiveAuthenticationService(DatabaseClient databaseClient,
+                                                                       RoleCache roleCache,
+                                                                       RefreshTokenService refreshTokenService,
+                                                                       JwtUtil jwtUtil,
+                                                                       @Value("${jwt.embed-roles:false}") boolean embedRoles) {
+        return new ReactiveAuthenticationService(new ReactiveRoleRepository(databaseClient),
+                new ReactiveRefreshTokenRepository(databaseClient), roleCache, refreshTokenService, jwtUtil, embedRoles);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${reactive.jdbc.threads:10}") int threads,
+                                   @Value("${reactive.jdbc.queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "jdbc");
+    }
+
+    @Bean
+    public BlockingCalls blockingCalls(Scheduler jdbcScheduler, PasswordHashingExecutor passwordHashingExecutor) {
+        return new BlockingCalls(jdbcScheduler, passwordHashingExecutor);
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         AuthenticationService authenticationService,
+                                                         ReactiveAuthenticationService reactiveAuthenticationService,
+                                                         ObjectMapper objectMapper,
+                                                         MeterRegistry meterRegistry) throws JsonProcessingException {
+        byte[] accessDenied = objectMapper.writeValueAsBytes(new ErrorResponse("접근 불가"));
+
+        return http
+                .csrf().disable()
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .addFilterAt(new JwtAuthenticationWebFilter(authenticationService, reactiveAuthenticationService, meterRegistry),
+                        SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling()
+                .authenticationEntryPoint((exchange, e) -> forbidden(exchange, accessDenied))
+                .accessDeniedHandler((exchange, e) -> forbidden(exchange, accessDenied))
+                .and()
+                .authorizeExchange()
+                .pathMatchers(HttpMethod.GET, "/api/members/exists/**").permitAll()
+                .pathMatchers(HttpMethod.POST, "/api/members/bulk").hasAuthority("ADMIN")
+                .pathMatchers(HttpMethod.GET, "/api/members", "/api/members/export", "/api/members/cursor")
+                .hasAuthority("ADMIN")
+                .pathMatchers(HttpMethod.GET, "/api/members/*").hasAnyAuthority("USER", "ADMIN")
+                .pathMatchers(HttpMethod.PATCH, "/api/members/*").hasAnyAuthority("USER", "ADMIN")
+                .pathMatchers("/actuator/metrics/**").hasAuthority("ADMIN")
+                .anyExchange().permitAll()
+                .and()
+                .build();
+    }
+
+    @Bean
+    public AuthenticationHandler authenticationHandler(AuthenticationService authenticationService,
+                                                       ReactiveAuthenticationService reactiveAuthenticationService,
+                                                       BlockingCalls blockingCalls) {
+        return new AuthenticationHandler(authenticationService, reactiveAuthenticationService, blockingCalls);
+    }
+
+    @Bean
+    public MemberHandler memberHandler(MemberService memberService, MemberBulkService memberBulkService,
+                                       MemberCache memberCache, DatabaseClient databaseClient,
+                                       Validator validator, BlockingCalls blockingCalls) {
+        return new MemberHandler(memberService, memberBulkService, memberCache,
+                new ReactiveMemberRepository(databaseClient), validator, blockingCalls);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> routes(AuthenticationHandler authenticationHandler,
+                                                 MemberHandler memberHandler,
+                                                 ObjectProvider<SigningKeyRing> signingKeyRing,
+                                                 @Value("${jwt.signing.jwks-max-age:5m}") Duration jwksMaxAge,
+                                                 MeterRegistry meterRegistry) {
+        RouterFunctions.Builder routes = RouterFunctions.route()
+                .POST("/api/authenticate", authenticationHandler::login)
+                .POST("/api/authenticate/refresh", authenticationHandler::refresh)
+                .POST("/api/authenticate/revoke", authenticationHandler::revoke)
+                .POST("/api/members", memberHandler::signUp)
+                .POST("/api/members/bulk", memberHandler::signUpAll)
+                .GET("/api/members/exists/{email}", memberHandler::exists)
+                .GET("/api/members/export", memberHandler::export)
+                .GET("/api/members/cursor", memberHandler::getMembersAfter)
+                .PATCH("/api/members/{id}", memberHandler::modify)
+                .GET("/api/members/{id}", memberHandler::getMember)
+                .GET("/api/members", memberHandler::getMembers);
+
+        signingKeyRing.ifAvailable(keyRing -> {
+            CacheControl cacheControl = CacheControl.maxAge(jwksMaxAge).cachePublic();
+            routes.GET("/.well-known/jwks.json", request -> ServerResponse.ok()
+                    .contentType(MediaType.parseMediaType("application/jwk-set+json"))
+                    .cacheControl(cacheControl)
+                    .bodyValue(keyRing.jwks()));
+        });
+
+        return routes.filter(new ReactiveErrorHandler(meterRegistry)).build();
+    }
+
+    private static Mono<Void> forbidden(ServerWebExchange exchange, byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.FORBIDDEN);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.ErrorResponse;
+import com.example.tokenauth.errors.BulkSignUpLimitExceededException;
+import com.example.tokenauth.errors.InvalidCursorException;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.errors.LoginFailException;
+import com.example.tokenauth.errors.MemberEmailDuplicationException;
+import com.example.tokenauth.errors.MemberNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * ControllerErrorAdvice 와 같은 상태 코드와 메시지로 handler 의 예외를 응답으로 바꾼다.
+ */
+public class ReactiveErrorHandler implements HandlerFilterFunction<ServerResponse, ServerResponse> {
+
+    private final Counter emailDuplications;
+    private final Counter loginFailures;
+    private final Counter invalidTokens;
+    private final Counter invalidRefreshTokens;
+
+    public ReactiveErrorHandler(MeterRegistry meterRegistry) {
+        this.emailDuplications = errorCounter(meterRegistry, MemberEmailDuplicationException.class);
+        this.loginFailures = errorCounter(meterRegistry, LoginFailException.class);
+        this.invalidTokens = errorCounter(meterRegistry, InvalidTokenException.class);
+        this.invalidRefreshTokens = errorCounter(meterRegistry, InvalidRefreshTokenException.class);
+    }
+
+    @Override
+    public Mono<ServerResponse> filter(ServerRequest request, HandlerFunction<ServerResponse> next) {
+        // handler 가 Mono 를 만들기 전에 요청 값을 읽다가 던진 예외도 같은 방식으로 응답한다
+        return Mono.defer(() -> next.handle(request))
+                .onErrorResume(BulkSignUpLimitExceededException.class,
+                        e -> error(HttpStatus.BAD_REQUEST, e.getMessage()))
+                .onErrorResume(InvalidCursorException.class,
+                        e -> error(HttpStatus.BAD_REQUEST, e.getMessage()))
+                .onErrorResume(NumberFormatException.class,
+                        e -> error(HttpStatus.BAD_REQUEST, "숫자 형식이 아닌 요청 값이 있습니다."))
+                .onErrorResume(MemberEmailDuplicationException.class, e -> {
+                    emailDuplications.increment();
+                    return error(HttpStatus.CONFLICT, e.getMessage());
+                })
+                .onErrorResume(MemberNotFoundException.class,
+                        e -> error(HttpStatus.NOT_FOUND, e.getMessage()))
+                .onErrorResume(LoginFailException.class, e -> {
+                    loginFailures.increment();
+                    return error(HttpStatus.UNAUTHORIZED, e.getMessage());
+                })
+                .onErrorResume(InvalidTokenException.class, e -> {
+                    invalidTokens.increment();
+                    return error(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰 입니다.");
+                })
+                .onErrorResume(InvalidRefreshTokenException.class, e -> {
+                    invalidRefreshTokens.increment();
+                    return error(HttpStatus.UNAUTHORIZED, e.getMessage());
+                })
+                .onErrorResume(AccessDeniedException.class,
+                        e -> error(HttpStatus.FORBIDDEN, "접근 불가"))
+                .onErrorResume(RejectedExecutionException.class,
+                        e -> error(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    static Mono<ServerResponse> error(HttpStatus status, String message) {
+        return ServerResponse.status(status).bodyValue(new ErrorResponse(message));
+    }
+
+    private static Counter errorCounter(MeterRegistry meterRegistry, Class<? extends Exception> exception) {
+        return meterRegistry.counter("auth.errors", "exception", exception.getSimpleName());
+    }
+}
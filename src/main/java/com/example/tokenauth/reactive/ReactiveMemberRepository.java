@@ -0,0 +1,29 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * 회원 단건 조회를 R2DBC 로 수행하는 저장소.
+ * 응답에 필요한 칼럼만 읽으며, 쓰기는 서블릿 모드와 같은 MemberRepository 가 맡는다.
+ */
+public class ReactiveMemberRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveMemberRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    /**
+     * @param id 회원 번호
+     * @return 회원 정보, 없는 회원이라면 empty
+     */
+    public Mono<MemberResponseData> findResponseDataById(Long id) {
+        return databaseClient.sql("select email, nickname from member where id = :id")
+                .bind("id", id)
+                .map(row -> new MemberResponseData(row.get("email", String.class), row.get("nickname", String.class)))
+                .one();
+    }
+}
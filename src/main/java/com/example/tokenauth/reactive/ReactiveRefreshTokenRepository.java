@@ -0,0 +1,63 @@
+package com.example.tokenauth.reactive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token 의 조회, 삭제, 저장을 R2DBC 로 수행하는 저장소.
+ *
+ * ID 는 JPA 와 같은 refresh_token_seq 에서 한 값씩 가져온다.
+ * Hibernate 는 가져온 값 v 에 대해 (v - 50, v] 구간을 사용하므로, 이 저장소가 가져간 값과 겹치지 않는다.
+ */
+public class ReactiveRefreshTokenRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveRefreshTokenRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<StoredRefreshToken> findByTokenHash(String tokenHash) {
+        return databaseClient.sql("select id, member_id, expires_at from refresh_token where token_hash = :tokenHash")
+                .bind("tokenHash", tokenHash)
+                .map(row -> new StoredRefreshToken(row.get("id", Long.class), row.get("member_id", Long.class),
+                        row.get("expires_at", LocalDateTime.class)))
+                .one();
+    }
+
+    /**
+     * @return 삭제한 행 수, 다른 요청이 먼저 삭제했다면 0
+     */
+    public Mono<Integer> removeById(Long id) {
+        return databaseClient.sql("delete from refresh_token where id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Integer> save(Long memberId, String tokenHash, LocalDateTime expiresAt) {
+        return databaseClient.sql("insert into refresh_token (id, member_id, token_hash, expires_at) " +
+                        "values (next value for refresh_token_seq, :memberId, :tokenHash, :expiresAt)")
+                .bind("memberId", memberId)
+                .bind("tokenHash", tokenHash)
+                .bind("expiresAt", expiresAt)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StoredRefreshToken {
+        private final Long id;
+        private final Long memberId;
+        private final LocalDateTime expiresAt;
+
+        public boolean isExpired(LocalDateTime now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
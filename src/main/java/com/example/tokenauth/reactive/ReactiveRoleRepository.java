@@ -0,0 +1,28 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+
+/**
+ * 회원별 권한 조회를 R2DBC 로 수행하는 저장소.
+ * role_type 은 JPA 의 기본 매핑과 같이 RoleType 의 ordinal 로 저장되어 있다.
+ */
+public class ReactiveRoleRepository {
+
+    private static final RoleType[] ROLE_TYPES = RoleType.values();
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveRoleRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Flux<Role> findAllByMemberId(Long memberId) {
+        return databaseClient.sql("select role_type from role where member_id = :memberId")
+                .bind("memberId", memberId)
+                .map(row -> new Role(memberId, ROLE_TYPES[row.get("role_type", Integer.class)]))
+                .all();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.domain.entity.RoleType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * @PreAuthorize 표현식을 기동 시점에 미리 해석해 둔 인가 규칙.
+ *
+ * isAuthenticated(), hasAuthority(...), hasAnyAuthority(...) 를 and 로 연결한 표현식만 지원한다.
+ * 규칙에 등장하는 권한 이름마다 비트를 하나씩 배정하고, 각 권한 조건을 mask 로 저장하여
+ * 요청마다 SpEL 을 평가하는 대신 사용자 권한의 mask 와 비트 연산으로 비교한다.
+ * RoleType 이름에는 RoleType.mask 와 같은 비트를 배정하므로, MemberAuthentication 은 권한 목록을 순회하지 않고
+ * 보관하고 있는 mask 를 그대로 비교한다.
+ */
+public class AuthorizationRule {
+
+    private static final Pattern AND = Pattern.compile("\\s+and\\s+");
+    private static final Pattern IS_AUTHENTICATED = Pattern.compile("isAuthenticated\\(\\s*\\)");
+    private static final Pattern HAS_AUTHORITY = Pattern.compile("has(Any)?Authority\\((.+)\\)");
+    private static final Pattern AUTHORITY = Pattern.compile("\\s*'([^']+)'\\s*");
+    private static final AuthenticationTrustResolver TRUST_RESOLVER = new AuthenticationTrustResolverImpl();
+
+    private final String expression;
+    private final boolean authenticationRequired;
+    private final Map<String, Long> authorityBits;
+    private final long[] requiredMasks;
+
+    private AuthorizationRule(String expression, boolean authenticationRequired,
+                              Map<String, Long> authorityBits, long[] requiredMasks) {
+        this.expression = expression;
+        this.authenticationRequired = authenticationRequired;
+        this.authorityBits = authorityBits;
+        this.requiredMasks = requiredMasks;
+    }
+
+    /**
+     * @param expression @PreAuthorize 의 value
+     * @return 컴파일된 규칙
+     * @throw IllegalArgumentException 지원하지 않는 형태의 표현식일 때
+     */
+    public static AuthorizationRule compile(String expression) {
+        boolean authenticationRequired = false;
+        Map<String, Long> authorityBits = new HashMap<>();
+        for (RoleType roleType : RoleType.values()) {
+            authorityBits.put(roleType.name(), (long) roleType.mask());
+        }
+        List<Long> requiredMasks = new ArrayList<>();
+
+        for (String term : AND.split(expression.trim())) {
+            if (IS_AUTHENTICATED.matcher(term).matches()) {
+                authenticationRequired = true;
+                continue;
+            }
+
+            Matcher matcher = HAS_AUTHORITY.matcher(term);
+            if (!matcher.matches()) {
+                throw new IllegalArgumentException("지원하지 않는 인가 표현식입니다: " + expression);
+            }
+
+            String[] authorities = matcher.group(2).split(",");
+            if (matcher.group(1) == null && authorities.length != 1) {
+                throw new IllegalArgumentException("지원하지 않는 인가 표현식입니다: " + expression);
+            }
+
+            long mask = 0;
+            for (String authority : authorities) {
+                Matcher quoted = AUTHORITY.matcher(authority);
+                if (!quoted.matches()) {
+                    throw new IllegalArgumentException("지원하지 않는 인가 표현식입니다: " + expression);
+                }
+                mask |= bit(authorityBits, quoted.group(1), expression);
+            }
+            requiredMasks.add(mask);
+        }
+
+        return new AuthorizationRule(expression, authenticationRequired, authorityBits,
+                requiredMasks.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    /**
+     * @param authentication 현재 요청의 인증 정보, 인증되지 않았다면 null 또는 익명 인증
+     * @return 규칙을 만족하면 true
+     */
+    public boolean permits(Authentication authentication) {
+        if (authenticationRequired && (authentication == null
+                || TRUST_RESOLVER.isAnonymous(authentication) || !authentication.isAuthenticated())) {
+            return false;
+        }
+        if (requiredMasks.length == 0) {
+            return true;
+        }
+        if (authentication == null) {
+            return false;
+        }
+
+        long granted = authentication instanceof MemberAuthentication
+                ? ((MemberAuthentication) authentication).getRoleMask()
+                : grantedMask(authentication);
+        for (long requiredMask : requiredMasks) {
+            if ((granted & requiredMask) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    private long grantedMask(Authentication authentication) {
+        long granted = 0;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            Long bit = authorityBits.get(authority.getAuthority());
+            if (bit != null) {
+                granted |= bit;
+            }
+        }
+        return granted;
+    }
+
+    private static long bit(Map<String, Long> authorityBits, String authority, String expression) {
+        Long bit = authorityBits.get(authority);
+        if (bit != null) {
+            return bit;
+        }
+        if (authorityBits.size() == Long.SIZE) {
+            throw new IllegalArgumentException("권한 종류가 너무 많습니다: " + expression);
+        }
+        bit = 1L << authorityBits.size();
+        authorityBits.put(authority, bit);
+        return bit;
+    }
+}
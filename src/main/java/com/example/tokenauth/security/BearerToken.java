@@ -0,0 +1,27 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.errors.InvalidTokenException;
+
+public final class BearerToken {
+
+    private static final String SCHEME = "Bearer ";
+
+    private BearerToken() {
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰을 꺼낸다. scheme 은 대소문자를 구분하지 않는다.
+     * 다른 scheme 의 헤더에는 자격 증명이 담겨 있을 수 있으므로 예외 메시지에 헤더 값을 남기지 않는다.
+     *
+     * @param authorization Authorization 헤더 값
+     * @return scheme 을 제외한 토큰 문자열
+     * @throw InvalidTokenException Bearer scheme 이 아니거나 토큰이 비어 있을 때
+     */
+    public static String extract(String authorization) {
+        if (authorization.length() <= SCHEME.length()
+                || !authorization.regionMatches(true, 0, SCHEME, 0, SCHEME.length())) {
+            throw new InvalidTokenException("Bearer 토큰이 아닌 Authorization 헤더");
+        }
+        return authorization.substring(SCHEME.length());
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.tokenauth.security;
+
+import io.micrometer.core.annotation.Timed;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 정해진 BCrypt 비용으로 해싱하고, 저장된 해시의 비용이 다르면 재해싱이 필요하다고 판단하는 PasswordEncoder.
+ *
+ * calibrate 는 기동 시점에 이 장비에서 해시 한 번이 주어진 지연 시간 안에 끝나는 가장 높은 비용을 찾는다.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$.{53}");
+    private static final int MIN_STRENGTH = 4;
+    private static final int MAX_STRENGTH = 31;
+    private static final int SAMPLES = 3;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+
+    public CalibratedPasswordEncoder(int strength) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * 해시 한 번이 latencyBudget 안에 끝나는 가장 높은 비용을 측정하여 encoder 를 만든다.
+     *
+     * @param latencyBudget 해시 한 번에 허용할 시간
+     * @param minStrength 측정 결과와 상관없이 보장할 최소 비용
+     * @param maxStrength 측정 결과와 상관없이 넘지 않을 최대 비용
+     * @return 측정된 비용을 사용하는 encoder
+     */
+    public static CalibratedPasswordEncoder calibrate(Duration latencyBudget, int minStrength, int maxStrength) {
+        int lowest = Math.max(MIN_STRENGTH, minStrength);
+        int highest = Math.min(MAX_STRENGTH, Math.max(lowest, maxStrength));
+
+        long elapsed = measure(new BCryptPasswordEncoder(lowest));
+        int strength = lowest;
+        while (strength < highest && elapsed * 2 <= latencyBudget.toNanos()) {
+            elapsed *= 2;
+            strength++;
+        }
+        return new CalibratedPasswordEncoder(strength);
+    }
+
+    private static long measure(BCryptPasswordEncoder encoder) {
+        encoder.encode("calibration");
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Timed("auth.password.matches")
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 저장된 해시의 비용이 현재 비용과 다르다면 재해싱이 필요하다.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.matches() && Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
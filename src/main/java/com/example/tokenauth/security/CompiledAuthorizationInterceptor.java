@@ -0,0 +1,81 @@
+package com.example.tokenauth.security;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 컨트롤러의 @PreAuthorize 를 method security 프록시 대신 HandlerInterceptor 에서 확인한다.
+ *
+ * 모든 handler method 의 표현식을 web server 가 시작되기 전에 AuthorizationRule 로 컴파일해 두고,
+ * 요청마다 handler method 에 해당하는 규칙만 꺼내 평가한다.
+ * 규칙을 만족하지 않으면 AccessDeniedException 을 던져 SpEL 로 평가할 때와 같은 응답을 만든다.
+ * 지원하지 않는 표현식이 있다면 기동에 실패한다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "security.authorization.compiled", havingValue = "true")
+public class CompiledAuthorizationInterceptor implements HandlerInterceptor, SmartInitializingSingleton {
+
+    private final ApplicationContext applicationContext;
+    private volatile Map<Method, AuthorizationRule> rules = Collections.emptyMap();
+
+    public CompiledAuthorizationInterceptor(ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Method, AuthorizationRule> compiled = new HashMap<>();
+        applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values()
+                        .forEach(handlerMethod -> compile(handlerMethod, compiled)));
+        this.rules = compiled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+
+        AuthorizationRule rule = rules.get(((HandlerMethod) handler).getMethod());
+        if (rule != null && !rule.permits(SecurityContextHolder.getContext().getAuthentication())) {
+            throw new AccessDeniedException("접근 불가");
+        }
+        return true;
+    }
+
+    private static void compile(HandlerMethod handlerMethod, Map<Method, AuthorizationRule> compiled) {
+        Method method = handlerMethod.getMethod();
+        PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(method, PreAuthorize.class);
+        if (preAuthorize == null) {
+            preAuthorize = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), PreAuthorize.class);
+        }
+        if (preAuthorize == null) {
+            return;
+        }
+
+        try {
+            compiled.put(method, AuthorizationRule.compile(preAuthorize.value()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(method + " 의 인가 규칙을 컴파일할 수 없습니다.", e);
+        }
+    }
+}
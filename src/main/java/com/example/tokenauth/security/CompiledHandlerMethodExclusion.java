@@ -0,0 +1,66 @@
+package com.example.tokenauth.security;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.ConfigAttribute;
+import org.springframework.security.access.method.AbstractMethodSecurityMetadataSource;
+import org.springframework.security.access.method.MethodSecurityMetadataSource;
+import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PostFilter;
+import org.springframework.security.access.prepost.PreFilter;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * method security 의 메타데이터 중 CompiledAuthorizationInterceptor 가 확인하는 handler method 만 제외한다.
+ *
+ * 컨트롤러의 @RequestMapping 메서드는 @PreAuthorize 외의 보안 애노테이션이 없을 때만 제외하며,
+ * 서비스 등 다른 빈과 @PostAuthorize, @PreFilter, @PostFilter 가 붙은 handler method 는 그대로 method security 프록시가 확인한다.
+ */
+public class CompiledHandlerMethodExclusion extends AbstractMethodSecurityMetadataSource {
+
+    private static final List<Class<? extends Annotation>> UNCOMPILED_ANNOTATIONS =
+            List.of(PostAuthorize.class, PreFilter.class, PostFilter.class);
+
+    private final MethodSecurityMetadataSource delegate;
+
+    public CompiledHandlerMethodExclusion(MethodSecurityMetadataSource delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Collection<ConfigAttribute> getAttributes(Method method, Class<?> targetClass) {
+        if (isCompiledHandlerMethod(method, targetClass)) {
+            return Collections.emptyList();
+        }
+        return delegate.getAttributes(method, targetClass);
+    }
+
+    @Override
+    public Collection<ConfigAttribute> getAllConfigAttributes() {
+        return delegate.getAllConfigAttributes();
+    }
+
+    static boolean isCompiledHandlerMethod(Method method, Class<?> targetClass) {
+        Class<?> type = targetClass != null ? targetClass : method.getDeclaringClass();
+        Method specificMethod = ClassUtils.getMostSpecificMethod(method, type);
+        if (!AnnotatedElementUtils.hasAnnotation(type, Controller.class)
+                || !AnnotatedElementUtils.hasAnnotation(specificMethod, RequestMapping.class)) {
+            return false;
+        }
+
+        for (Class<? extends Annotation> annotation : UNCOMPILED_ANNOTATIONS) {
+            if (AnnotatedElementUtils.hasAnnotation(specificMethod, annotation)
+                    || AnnotatedElementUtils.hasAnnotation(type, annotation)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,27 +1,44 @@
 package com.example.tokenauth.security;
 
 import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Objects;
 
+/**
+ * 권한을 RoleType mask 로 보관하는 인증 정보.
+ * getAuthorities 는 RoleAuthorities 가 조합마다 공유하는 목록을 반환하므로 요청마다 권한 객체를 만들지 않는다.
+ */
 public class MemberAuthentication extends AbstractAuthenticationToken {
 
     private final Long memberId;
+    private final int roleMask;
 
     public MemberAuthentication(Long memberId, List<Role> roles) {
-        super(authorities(roles));
+        this(memberId, RoleAuthorities.maskOfRoles(roles));
+    }
+
+    public MemberAuthentication(Long memberId, Collection<RoleType> roleTypes) {
+        this(memberId, RoleAuthorities.mask(roleTypes));
+    }
+
+    private MemberAuthentication(Long memberId, int roleMask) {
+        super(null);
         this.memberId = memberId;
+        this.roleMask = roleMask;
     }
 
-    private static List<? extends GrantedAuthority> authorities(List<Role> roles) {
-        return roles.stream()
-                .map(role -> new SimpleGrantedAuthority(role.getRoleType().toString()))
-                .collect(Collectors.toList());
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return RoleAuthorities.of(roleMask);
     }
 
     @Override
@@ -38,4 +55,29 @@ public class MemberAuthentication extends AbstractAuthenticationToken {
     public boolean isAuthenticated() {
         return true;
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MemberAuthentication)) {
+            return false;
+        }
+        MemberAuthentication that = (MemberAuthentication) o;
+        return roleMask == that.roleMask
+                && Objects.equals(memberId, that.memberId)
+                && Objects.equals(getDetails(), that.getDetails());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(memberId, roleMask);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [Principal=" + memberId
+                + ", Granted Authorities=" + getAuthorities() + "]";
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.utils.BloomFilter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 폐기된 토큰 ID 의 메모리 집합.
+ *
+ * 대부분의 토큰은 폐기되지 않았으므로 크기가 고정된 Bloom filter 에서 먼저 걸러내고,
+ * filter 를 통과한 토큰만 정확한 집합에서 다시 확인한다.
+ * 정확한 집합에는 아직 만료되지 않은 폐기 토큰만 남으며, prune 할 때 filter 도 다시 만든다.
+ * 조회는 잠금 없이 수행하고, 추가와 prune 만 서로 배타적으로 수행한다.
+ * prune 이 filter 를 다시 만드는 동안 기다리는 스레드가 가상 스레드일 수 있으므로 monitor 대신 ReentrantLock 을 사용한다.
+ */
+public class RevokedTokenSet {
+
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+    private final Map<String, Long> expirations = new ConcurrentHashMap<>();
+    private final Lock lock = new ReentrantLock();
+    private volatile BloomFilter filter;
+
+    /**
+     * @param expectedInsertions 동시에 유지될 것으로 예상하는 폐기 토큰 수
+     * @param falsePositiveProbability expectedInsertions 개가 추가되었을 때 목표로 하는 오탐 확률
+     */
+    public RevokedTokenSet(long expectedInsertions, double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * @param tokenId 폐기된 토큰 ID
+     * @param expiresAt epoch 초 단위의 토큰 만료 시각
+     */
+    public void add(String tokenId, long expiresAt) {
+        lock.lock();
+        try {
+            expirations.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean contains(String tokenId) {
+        return filter.mightContain(tokenId) && expirations.containsKey(tokenId);
+    }
+
+    /**
+     * 만료된 토큰을 제거하고 남은 토큰으로 filter 를 다시 만든다.
+     *
+     * @param now epoch 초 단위의 현재 시각
+     * @return 제거한 토큰 수
+     */
+    public int prune(long now) {
+        lock.lock();
+        try {
+            int before = expirations.size();
+            expirations.values().removeIf(expiresAt -> expiresAt <= now);
+            int pruned = before - expirations.size();
+            if (pruned == 0) {
+                return 0;
+            }
+
+            BloomFilter rebuilt = new BloomFilter(expectedInsertions, falsePositiveProbability);
+            expirations.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+            return pruned;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        return expirations.size();
+    }
+
+    /**
+     * filter 의 비트 배열이 차지하는 메모리 크기.
+     */
+    public long filterSizeInBytes() {
+        return filter.sizeInBytes();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * RoleType 조합을 RoleType.mask 를 합친 비트 mask 로 다룬다.
+ *
+ * 가능한 모든 조합의 권한 목록을 클래스 초기화 시점에 한 번만 만들어 두고,
+ * 같은 조합을 가진 인증 정보는 같은 불변 목록을 공유한다.
+ */
+public final class RoleAuthorities {
+
+    private static final RoleType[] ROLE_TYPES = RoleType.values();
+    private static final List<List<GrantedAuthority>> AUTHORITIES = authorities();
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * @param mask RoleType 조합의 mask
+     * @return mask 에 해당하는 공유된 불변 권한 목록, RoleType 순서로 정렬되어 있다
+     */
+    public static List<GrantedAuthority> of(int mask) {
+        return AUTHORITIES.get(mask);
+    }
+
+    public static int mask(Collection<RoleType> roleTypes) {
+        int mask = 0;
+        for (RoleType roleType : roleTypes) {
+            mask |= roleType.mask();
+        }
+        return mask;
+    }
+
+    public static int maskOfRoles(Collection<Role> roles) {
+        int mask = 0;
+        for (Role role : roles) {
+            mask |= role.getRoleType().mask();
+        }
+        return mask;
+    }
+
+    private static List<List<GrantedAuthority>> authorities() {
+        GrantedAuthority[] authorities = new GrantedAuthority[ROLE_TYPES.length];
+        for (RoleType roleType : ROLE_TYPES) {
+            authorities[roleType.ordinal()] = new SimpleGrantedAuthority(roleType.name());
+        }
+
+        int combinations = 1 << ROLE_TYPES.length;
+        List<List<GrantedAuthority>> lists = new ArrayList<>(combinations);
+        for (int mask = 0; mask < combinations; mask++) {
+            List<GrantedAuthority> list = new ArrayList<>(Integer.bitCount(mask));
+            for (RoleType roleType : ROLE_TYPES) {
+                if ((mask & roleType.mask()) != 0) {
+                    list.add(authorities[roleType.ordinal()]);
+                }
+            }
+            lists.add(Collections.unmodifiableList(list));
+        }
+        return Collections.unmodifiableList(lists);
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.tokenauth.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.*;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * ES256 토큰 서명에 사용하는 kid 별 키 묶음.
+ *
+ * 키는 모든 노드가 공유하는 PKCS12 키 저장소에서 읽으며, kid 는 공개키의 JWK thumbprint 이므로
+ * 같은 저장소를 읽은 노드는 모두 같은 kid 로 서명하고 서로의 토큰을 검증할 수 있다.
+ * 각 키는 인증서의 notBefore 에 활성화되고, 활성화된 키 중 가장 최근 키로 서명한다.
+ * 아직 활성화되지 않은 키는 JWKS 에 미리 공개하여 다른 노드가 캐시해 둘 수 있게 하고,
+ * 서명 키 이전의 키는 retained-keys 개까지 검증용으로 남겨둔다.
+ *
+ * 키 교체는 저장소에 새 키를 추가하는 것으로 이루어진다. 노드는 refresh-interval 마다 저장소를 다시 읽어
+ * 재시작 없이 스냅샷을 바꿔 끼우며, 시각만으로 서명 키를 정하므로 노드 사이의 조율이 필요 없다.
+ * JWKS 를 캐시하는 쪽이 새 키를 미리 받아둘 수 있도록 새 키의 notBefore 는 jwks-max-age 와
+ * refresh-interval 을 더한 것보다 뒤여야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.signing.algorithm", havingValue = "es256")
+public class SigningKeyRing {
+
+    private final Resource keyStore;
+    private final char[] keyStorePassword;
+    private final int retainedKeys;
+    private volatile KeySet keySet;
+
+    @Autowired
+    public SigningKeyRing(@Value("${jwt.signing.key-store}") Resource keyStore,
+                          @Value("${jwt.signing.key-store-password}") String keyStorePassword,
+                          @Value("${jwt.signing.retained-keys:2}") int retainedKeys) {
+        this(keyStore, keyStorePassword, retainedKeys, Instant.now());
+    }
+
+    /**
+     * @param now 서명 키를 정하는 기준 시각
+     * @throw IllegalStateException 키 저장소를 읽을 수 없거나 now 에 활성화된 키가 없을 때
+     */
+    public SigningKeyRing(Resource keyStore, String keyStorePassword, int retainedKeys, Instant now) {
+        this.keyStore = keyStore;
+        this.keyStorePassword = keyStorePassword.toCharArray();
+        this.retainedKeys = retainedKeys;
+        this.keySet = load(now);
+    }
+
+    /**
+     * @return 새 토큰 서명에 사용할 키
+     */
+    public SigningKey signingKey() {
+        return keySet.current;
+    }
+
+    /**
+     * @param kid 토큰 헤더의 kid
+     * @return kid 에 해당하는 검증 키, 저장소에 없거나 보관 개수를 넘어 제거된 키라면 null
+     */
+    public PublicKey verificationKey(String kid) {
+        return keySet.verificationKeys.get(kid);
+    }
+
+    /**
+     * @return 검증에 사용할 수 있는 모든 공개키를 담은 JWK Set
+     */
+    public Map<String, Object> jwks() {
+        return keySet.jwks;
+    }
+
+    /**
+     * 키 저장소를 다시 읽는다.
+     * 읽지 못하면 기존 키를 그대로 사용한다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.signing.refresh-interval:PT1M}",
+            initialDelayString = "${jwt.signing.refresh-interval:PT1M}")
+    public void refresh() {
+        try {
+            refresh(Instant.now());
+        } catch (IllegalStateException e) {
+            log.warn("Failed to reload signing keys, keeping kid {}", keySet.current.kid, e);
+        }
+    }
+
+    /**
+     * 키 저장소를 다시 읽어 now 시점의 서명 키, 공개할 키, 검증 키를 정한다.
+     *
+     * @throw IllegalStateException 키 저장소를 읽을 수 없거나 now 에 활성화된 키가 없을 때
+     */
+    public synchronized void refresh(Instant now) {
+        this.keySet = load(now);
+    }
+
+    private KeySet load(Instant now) {
+        List<SigningKey> keys = read();
+        keys.sort(Comparator.comparing(key -> key.notBefore));
+
+        int current = -1;
+        for (int i = 0; i < keys.size() && !keys.get(i).notBefore.isAfter(now); i++) {
+            current = i;
+        }
+        if (current < 0) {
+            throw new IllegalStateException("활성화된 서명 키가 없습니다: " + keyStore.getDescription());
+        }
+
+        List<SigningKey> retired = new ArrayList<>(keys.subList(Math.max(0, current - retainedKeys), current));
+        Collections.reverse(retired);
+        return new KeySet(keys.get(current), keys.subList(current + 1, keys.size()), retired);
+    }
+
+    private List<SigningKey> read() {
+        try (InputStream input = keyStore.getInputStream()) {
+            KeyStore store = KeyStore.getInstance("PKCS12");
+            store.load(input, keyStorePassword);
+
+            List<SigningKey> keys = new ArrayList<>();
+            for (String alias : Collections.list(store.aliases())) {
+                if (!store.isKeyEntry(alias)) {
+                    continue;
+                }
+                Key privateKey = store.getKey(alias, keyStorePassword);
+                Certificate certificate = store.getCertificate(alias);
+                if (!(privateKey instanceof PrivateKey) || !(certificate instanceof X509Certificate)
+                        || !isP256(certificate.getPublicKey())) {
+                    throw new IllegalStateException("P-256 EC 키가 아닙니다: " + alias);
+                }
+                keys.add(new SigningKey((PrivateKey) privateKey, (ECPublicKey) certificate.getPublicKey(),
+                        ((X509Certificate) certificate).getNotBefore().toInstant()));
+            }
+            return keys;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("서명 키 저장소를 읽을 수 없습니다: " + keyStore.getDescription(), e);
+        }
+    }
+
+    private static boolean isP256(PublicKey publicKey) {
+        return publicKey instanceof ECPublicKey
+                && ((ECPublicKey) publicKey).getParams().getCurve().getField().getFieldSize() == 256;
+    }
+
+    public static final class SigningKey {
+        private final String kid;
+        private final PrivateKey privateKey;
+        private final ECPublicKey publicKey;
+        private final Instant notBefore;
+        private final Map<String, Object> jwk;
+
+        private SigningKey(PrivateKey privateKey, ECPublicKey publicKey, Instant notBefore) {
+            this.privateKey = privateKey;
+            this.publicKey = publicKey;
+            this.notBefore = notBefore;
+
+            String x = coordinate(publicKey.getW().getAffineX());
+            String y = coordinate(publicKey.getW().getAffineY());
+            this.kid = thumbprint(x, y);
+
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-256");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", "ES256");
+            jwk.put("x", x);
+            jwk.put("y", y);
+            this.jwk = Collections.unmodifiableMap(jwk);
+        }
+
+        public String getKid() {
+            return kid;
+        }
+
+        public PrivateKey getPrivateKey() {
+            return privateKey;
+        }
+
+        /**
+         * RFC 7638 JWK thumbprint 를 kid 로 사용한다.
+         */
+        private static String thumbprint(String x, String y) {
+            String json = "{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"" + x + "\",\"y\":\"" + y + "\"}";
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.US_ASCII));
+                return base64Url(digest);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String coordinate(BigInteger value) {
+            byte[] bytes = value.toByteArray();
+            byte[] coordinate = new byte[32];
+            int length = Math.min(bytes.length, coordinate.length);
+            System.arraycopy(bytes, bytes.length - length, coordinate, coordinate.length - length, length);
+            return base64Url(coordinate);
+        }
+
+        private static String base64Url(byte[] bytes) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        }
+    }
+
+    private static final class KeySet {
+        private final SigningKey current;
+        private final Map<String, PublicKey> verificationKeys;
+        private final Map<String, Object> jwks;
+
+        private KeySet(SigningKey current, List<SigningKey> upcoming, List<SigningKey> retired) {
+            this.current = current;
+
+            List<SigningKey> published = new ArrayList<>(upcoming.size() + retired.size() + 1);
+            published.add(current);
+            published.addAll(upcoming);
+            published.addAll(retired);
+
+            Map<String, PublicKey> verificationKeys = new HashMap<>();
+            List<Map<String, Object>> keys = new ArrayList<>();
+            for (SigningKey key : published) {
+                verificationKeys.put(key.kid, key.publicKey);
+                keys.add(key.jwk);
+            }
+            this.verificationKeys = Map.copyOf(verificationKeys);
+            this.jwks = Map.of("keys", List.copyOf(keys));
+        }
+    }
+}
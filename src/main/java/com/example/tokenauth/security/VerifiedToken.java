@@ -0,0 +1,39 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.domain.entity.RoleType;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * 서명 검증을 마친 Access Token 의 내용.
+ * 토큰에 권한, 토큰 ID, 만료 시각이 담겨 있지 않다면 각각 roleTypes, tokenId, expiresAt 은 null 이다.
+ */
+@Getter
+public class VerifiedToken {
+
+    private final Long memberId;
+    private final Set<RoleType> roleTypes;
+    private final String tokenId;
+    private final Long expiresAt;
+
+    public VerifiedToken(Long memberId, Set<RoleType> roleTypes) {
+        this(memberId, roleTypes, null, null);
+    }
+
+    /**
+     * @param tokenId jti claim
+     * @param expiresAt epoch 초 단위의 만료 시각
+     */
+    public VerifiedToken(Long memberId, Set<RoleType> roleTypes, String tokenId, Long expiresAt) {
+        this.memberId = memberId;
+        this.roleTypes = roleTypes == null ? null : Collections.unmodifiableSet(roleTypes);
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean hasRoleTypes() {
+        return roleTypes != null;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.utils.ObjectPool;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 이미 서명 검증을 마친 토큰의 내용을 보관하는 캐시.
+ *
+ * 토큰 문자열 대신 SHA-256 digest 를 키로 사용하며, 크기와 시간 기준으로 만료된다.
+ * 만료 시각을 가진 토큰은 expire-after-write 와 토큰의 만료 시각 중 이른 시점에 제거된다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final int MAX_IDLE_DIGESTS = 256;
+
+    private final boolean enabled;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final ObjectPool<MessageDigest> digests = new ObjectPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }, MAX_IDLE_DIGESTS);
+
+    public VerifiedTokenCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${jwt.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                              MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(expireAfterWrite.toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    /**
+     * 캐시된 토큰 정보를 반환하고, 없다면 verifier 로 검증한 결과를 캐시한다.
+     *
+     * @param token Bearer 접두사가 빠진 순수 토큰 문자열 정보
+     * @param verifier 캐시에 없을 때 토큰을 검증하는 함수
+     * @return 검증된 토큰 정보
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if(!enabled || token == null || token.isBlank()) {
+            return verifier.apply(token);
+        }
+
+        return cache.get(digest(token), key -> verifier.apply(token));
+    }
+
+    /**
+     * 캐시 적중, 실패, 제거 횟수를 반환한다.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    private ByteBuffer digest(String token) {
+        MessageDigest digest = digests.acquire();
+        try {
+            return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } finally {
+            digests.release(digest);
+        }
+    }
+
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+        private final long expireAfterWriteNanos;
+
+        private TokenExpiry(long expireAfterWriteNanos) {
+            this.expireAfterWriteNanos = expireAfterWriteNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            if(token.getExpiresAt() == null) {
+                return expireAfterWriteNanos;
+            }
+            long untilExpiration = TimeUnit.MILLISECONDS.toNanos(
+                    token.getExpiresAt() * 1000 - System.currentTimeMillis());
+            return Math.max(0, Math.min(expireAfterWriteNanos, untilExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
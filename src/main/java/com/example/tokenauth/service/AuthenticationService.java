@@ -1,18 +1,25 @@
 package com.example.tokenauth.service;
 
+import com.example.tokenauth.domain.dto.LoginResponseData;
 import com.example.tokenauth.domain.entity.Member;
 import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
 import com.example.tokenauth.domain.repository.MemberRepository;
 import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.errors.InvalidTokenException;
 import com.example.tokenauth.errors.LoginFailException;
 import com.example.tokenauth.errors.MemberNotFoundException;
+import com.example.tokenauth.security.VerifiedToken;
+import com.example.tokenauth.security.VerifiedTokenCache;
 import com.example.tokenauth.utils.JwtUtil;
-import io.jsonwebtoken.Claims;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 public class AuthenticationService {
@@ -21,24 +28,40 @@ public class AuthenticationService {
     private final RoleRepository roleRepository;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RoleCache roleCache;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean embedRoles;
 
-    public AuthenticationService(MemberRepository memberRepository, RoleRepository roleRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder) {
+    public AuthenticationService(MemberRepository memberRepository, RoleRepository roleRepository, JwtUtil jwtUtil, PasswordEncoder passwordEncoder, VerifiedTokenCache verifiedTokenCache,
+                                 RoleCache roleCache, RefreshTokenService refreshTokenService,
+                                 TokenRevocationService tokenRevocationService,
+                                 @Value("${jwt.embed-roles:false}") boolean embedRoles) {
         this.memberRepository = memberRepository;
         this.roleRepository = roleRepository;
         this.jwtUtil = jwtUtil;
         this.passwordEncoder = passwordEncoder;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.roleCache = roleCache;
+        this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.embedRoles = embedRoles;
     }
 
     /**
      * 이메일을 받아서 로그인 인증을 수행한다.
+     * jwt.embed-roles 가 켜져 있다면 발급 시점의 권한을 토큰에 담는다.
+     * 저장된 비밀번호 해시의 비용이 현재 설정과 다르다면 인증에 성공한 비밀번호로 다시 해싱한다.
      *
      * @param email : 요청 이메일
      * @param password: 요청 비밀번호
-     * @return token : Access Token
+     * @return Access Token 과 Refresh Token
      * @throw LoginFailException : 이메일이 올바르지 않는 경우
      * @throw LoginFailException : 비밀번호가 올바르지 않는 경우
      */
-    public String login(String email, String password) {
+    @Timed("auth.login")
+    public LoginResponseData login(String email, String password) {
 
         Member member = memberRepository.findByEmail(email)
                 .orElseThrow(() -> new LoginFailException(email));
@@ -47,7 +70,25 @@ public class AuthenticationService {
             throw new LoginFailException(email);
         }
 
-        return jwtUtil.encode(member.getId());
+        if(passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.changePassword(password, passwordEncoder);
+            memberRepository.save(member);
+        }
+
+        return issueTokens(member.getId());
+    }
+
+    /**
+     * Refresh Token 을 소비하고 새 Access Token 과 Refresh Token 을 발급한다.
+     * 비밀번호 검증 없이 인덱스 조회 한 번으로 세션을 갱신한다.
+     *
+     * @param refreshToken 로그인 또는 이전 갱신에서 발급받은 Refresh Token
+     * @return 새로 발급한 Access Token 과 Refresh Token
+     * @throw InvalidRefreshTokenException 존재하지 않거나, 이미 사용되었거나, 만료된 토큰일 때
+     */
+    @Timed("auth.refresh")
+    public LoginResponseData refresh(String refreshToken) {
+        return issueTokens(refreshTokenService.consume(refreshToken));
     }
 
     /**
@@ -57,17 +98,67 @@ public class AuthenticationService {
      * @return 사용자 ID
      */
     public Long parseToken(String accessToken) {
-        Claims claims = jwtUtil.decode(accessToken);
-        return claims.get("memberId", Long.class);
+        return parseAccessToken(accessToken).getMemberId();
+    }
+
+    /**
+     * 토큰을 파싱하여 사용자 ID 와 토큰에 담긴 권한을 반환한다.
+     * 이미 검증된 토큰이라면 서명 검증 없이 캐시된 결과를 반환한다.
+     * 폐기 여부는 캐시와 관계없이 매번 메모리의 폐기 목록에서 확인한다.
+     *
+     * @param accessToken decode 할 토큰
+     * @return 검증된 토큰 정보
+     * @throw InvalidTokenException 검증에 실패했거나 폐기된 토큰일 때
+     */
+    public VerifiedToken parseAccessToken(String accessToken) {
+        VerifiedToken verifiedToken = verifiedTokenCache.get(accessToken, jwtUtil::decodeToken);
+        if(tokenRevocationService.isRevoked(verifiedToken)) {
+            throw new InvalidTokenException(accessToken);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * Access Token 을 만료 시각까지 사용할 수 없도록 폐기한다.
+     *
+     * @param accessToken 폐기할 토큰
+     * @throw InvalidTokenException 검증에 실패했거나, 이미 폐기되었거나, 토큰 ID 와 만료 시각이 없는 토큰일 때
+     */
+    public void revoke(String accessToken) {
+        VerifiedToken verifiedToken = parseAccessToken(accessToken);
+        if(verifiedToken.getTokenId() == null || verifiedToken.getExpiresAt() == null) {
+            throw new InvalidTokenException(accessToken);
+        }
+        tokenRevocationService.revoke(verifiedToken);
     }
 
     /**
      * 회원의 id를 받아 해당 권한을 반환한다.
+     * 권한이 바뀌면 커밋 시점에 캐시에서 제거되며, 그 외에는 roles.cache.expire-after-write 이내에 반영된다.
      *
      * @param memberId 권한을 조회하려는 회원 ID
      * @return 권한 리스트
      */
+    @Timed("auth.roles")
     public List<Role> roles(Long memberId) {
-        return roleRepository.findAllByMemberId(memberId);
+        return roleCache.get(memberId, roleRepository::findAllByMemberId);
+    }
+
+    private LoginResponseData issueTokens(Long memberId) {
+        return LoginResponseData.builder()
+                .accessToken(accessToken(memberId))
+                .refreshToken(refreshTokenService.issue(memberId))
+                .build();
+    }
+
+    private String accessToken(Long memberId) {
+        if(!embedRoles) {
+            return jwtUtil.encode(memberId);
+        }
+
+        List<RoleType> roleTypes = roles(memberId).stream()
+                .map(Role::getRoleType)
+                .collect(Collectors.toList());
+        return jwtUtil.encode(memberId, roleTypes);
     }
 }
\ No newline at end of file
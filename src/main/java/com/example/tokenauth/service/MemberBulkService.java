@@ -0,0 +1,215 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData;
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData.Status;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.entity.Member;
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.example.tokenauth.domain.mapper.MemberMapper;
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.errors.BulkSignUpLimitExceededException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * 여러 회원을 한 번에 가입시키는 서비스.
+ *
+ * 중복 이메일은 한 번의 IN 쿼리로 확인하고, 비밀번호는 일괄 작업용 해싱 스레드 풀에서 병렬로 해싱한 뒤
+ * 회원과 권한을 하나의 트랜잭션에서 batch insert 로 저장한다.
+ * 해싱하는 동안에는 트랜잭션과 커넥션을 점유하지 않는다.
+ */
+@Service
+public class MemberBulkService {
+
+    private final MemberRepository memberRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final MemberMapper memberMapper;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final Validator validator;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final int maxSize;
+
+    public MemberBulkService(MemberRepository memberRepository, RoleRepository roleRepository,
+                             PasswordEncoder passwordEncoder, MemberMapper memberMapper,
+                             PasswordHashingExecutor passwordHashingExecutor,
+                             Validator validator, TransactionOperations transactionOperations,
+                             ApplicationEventPublisher eventPublisher, RegisteredEmailFilter registeredEmailFilter,
+                             @Value("${member.bulk.max-size:1000}") int maxSize) {
+        this.memberRepository = memberRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.memberMapper = memberMapper;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.validator = validator;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 여러 회원을 한 번에 등록한다.
+     * 형식이 올바르지 않거나 이미 존재하는 이메일은 건너뛰고, 나머지 회원만 등록한다.
+     *
+     * @param signUpData 회원가입 요청 데이터 목록
+     * @return 요청 순서와 같은 순서의 행 별 처리 결과
+     * @throw BulkSignUpLimitExceededException 요청 수가 최대 크기를 넘을 때
+     */
+    @Timed("member.service")
+    public List<MemberBulkSignUpResultData> signUpAll(List<MemberRequestSignUpData> signUpData) {
+        if(signUpData.size() > maxSize) {
+            throw new BulkSignUpLimitExceededException(maxSize);
+        }
+
+        MemberBulkSignUpResultData[] results = new MemberBulkSignUpResultData[signUpData.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int i = 0; i < signUpData.size(); i++) {
+            MemberRequestSignUpData data = signUpData.get(i);
+            String violation = violation(data);
+
+            if(violation != null) {
+                results[i] = result(i, data == null ? null : data.getEmail(), Status.INVALID, violation);
+            } else if(candidates.putIfAbsent(data.getEmail(), i) != null) {
+                results[i] = result(i, data.getEmail(), Status.DUPLICATED, "요청 내에 중복된 Email 입니다.");
+            }
+        }
+
+        if(!candidates.isEmpty()) {
+            for (String email : memberRepository.findAllEmailsByEmailIn(candidates.keySet())) {
+                Integer index = candidates.remove(email);
+                if(index == null) {
+                    continue;
+                }
+                results[index] = result(index, email, Status.DUPLICATED, email + " 는 이미 존재하는 Email 입니다.");
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(candidates.values());
+        String[] passwords = hashAll(indexes.stream()
+                .map(index -> signUpData.get(index).getPassword())
+                .toArray(String[]::new));
+
+        Map<Integer, String> hashedPasswords = new LinkedHashMap<>();
+        for (int i = 0; i < indexes.size(); i++) {
+            hashedPasswords.put(indexes.get(i), passwords[i]);
+        }
+
+        List<Member> members = saveAll(signUpData, hashedPasswords, results);
+
+        Iterator<Integer> savedIndexes = hashedPasswords.keySet().iterator();
+        for (Member member : members) {
+            int index = savedIndexes.next();
+            eventPublisher.publishEvent(new RoleChangedEvent(member.getId()));
+            registeredEmailFilter.put(member.getEmail());
+            results[index] = result(index, member.getEmail(), Status.CREATED, null);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 회원과 권한을 하나의 트랜잭션에서 저장한다.
+     *
+     * IN 쿼리 이후 다른 요청이 같은 이메일로 먼저 가입하면 unique 인덱스 위반으로 배치 전체가 롤백된다.
+     * 이때는 이미 존재하는 이메일을 다시 조회하여 해당 행을 DUPLICATED 로 표시하고, 나머지 회원만 다시 저장한다.
+     * 재시도마다 최소 한 행이 빠지므로 반복은 유한하다.
+     *
+     * @param hashedPasswords 저장할 행 번호와 해싱된 비밀번호, 중복으로 밝혀진 행은 제거된다
+     * @return hashedPasswords 의 순서와 같은 순서로 저장된 회원 목록
+     */
+    private List<Member> saveAll(List<MemberRequestSignUpData> signUpData, Map<Integer, String> hashedPasswords,
+                                 MemberBulkSignUpResultData[] results) {
+        while (!hashedPasswords.isEmpty()) {
+            // 롤백된 엔티티는 id 가 채워져 있어 재사용하면 merge 되므로 매 시도마다 새로 만든다.
+            List<Member> members = hashedPasswords.entrySet().stream()
+                    .map(entry -> memberMapper.toMember(signUpData.get(entry.getKey()), entry.getValue()))
+                    .collect(Collectors.toList());
+
+            try {
+                transactionOperations.executeWithoutResult(status -> {
+                    memberRepository.saveAll(members);
+                    memberRepository.flush();
+                    roleRepository.saveAll(members.stream()
+                            .map(member -> new Role(member.getId(), RoleType.USER))
+                            .collect(Collectors.toList()));
+                });
+                return members;
+            } catch (DataIntegrityViolationException e) {
+                if(!MemberEmailConstraint.isViolatedBy(e)) {
+                    throw e;
+                }
+
+                Map<String, Integer> pending = new HashMap<>();
+                hashedPasswords.keySet().forEach(index -> pending.put(signUpData.get(index).getEmail(), index));
+
+                List<String> registered = memberRepository.findAllEmailsByEmailIn(pending.keySet());
+                if(registered.isEmpty()) {
+                    throw e;
+                }
+                for (String email : registered) {
+                    Integer index = pending.get(email);
+                    if(index == null) {
+                        continue;
+                    }
+                    hashedPasswords.remove(index);
+                    results[index] = result(index, email, Status.DUPLICATED, email + " 는 이미 존재하는 Email 입니다.");
+                }
+            }
+        }
+        return Collections.emptyList();
+    }
+
+    private String violation(MemberRequestSignUpData data) {
+        if(data == null) {
+            return "회원가입 요청 데이터가 비어 있습니다.";
+        }
+        Set<ConstraintViolation<MemberRequestSignUpData>> violations = validator.validate(data);
+        return violations.isEmpty() ? null : violations.iterator().next().getMessage();
+    }
+
+    private String[] hashAll(String[] passwords) {
+        String[] hashes = new String[passwords.length];
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[passwords.length];
+        try {
+            for (int i = 0; i < passwords.length; i++) {
+                int index = i;
+                futures[i] = passwordHashingExecutor.submitBulk(() -> hashes[index] = passwordEncoder.encode(passwords[index]));
+            }
+        } catch (RejectedExecutionException e) {
+            Arrays.stream(futures).filter(Objects::nonNull).forEach(future -> future.cancel(false));
+            throw e;
+        }
+        CompletableFuture.allOf(futures).join();
+
+        return hashes;
+    }
+
+    private static MemberBulkSignUpResultData result(int index, String email, Status status, String message) {
+        return MemberBulkSignUpResultData.builder()
+                .index(index)
+                .email(email)
+                .status(status)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.event.MemberModifiedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 회원 단건 조회 결과를 보관하는 캐시.
+ *
+ * 크기와 시간 기준으로 만료되며, MemberModifiedEvent 를 발행한 트랜잭션이 커밋되면
+ * 수정된 회원 정보로 항목을 교체한다.
+ * 비동기 조회와 함께 쓰기 위해 AsyncCache 로 보관하며, 동기 조회의 loader 는 호출한 스레드에서 실행된다.
+ */
+@Component
+public class MemberCache {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, MemberResponseData> cache;
+
+    public MemberCache(@Value("${member.cache.enabled:true}") boolean enabled,
+                       @Value("${member.cache.maximum-size:10000}") long maximumSize,
+                       @Value("${member.cache.expire-after-write:10m}") Duration expireAfterWrite,
+                       MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "members");
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없다면 loader 로 조회한 결과를 캐시한다.
+     * loader 가 예외를 던지면 캐시하지 않는다.
+     *
+     * @param memberId 조회하려는 회원 ID
+     * @param loader 캐시에 없을 때 회원을 조회하는 함수
+     * @return 회원 정보
+     */
+    public MemberResponseData get(Long memberId, Function<Long, MemberResponseData> loader) {
+        if(!enabled) {
+            return loader.apply(memberId);
+        }
+
+        return cache.synchronous().get(memberId, loader);
+    }
+
+    /**
+     * 캐시된 회원 정보를 반환하고, 없다면 loader 가 비동기로 조회한 결과를 캐시한다.
+     * loader 가 실패하거나 null 로 끝나면 캐시하지 않는다.
+     *
+     * @param memberId 조회하려는 회원 ID
+     * @param loader 캐시에 없을 때 회원을 비동기로 조회하는 함수
+     * @return 회원 정보, 없는 회원이라면 null
+     */
+    public CompletableFuture<MemberResponseData> getAsync(Long memberId,
+                                                          Function<Long, CompletableFuture<MemberResponseData>> loader) {
+        if(!enabled) {
+            return loader.apply(memberId);
+        }
+
+        return cache.get(memberId, (id, executor) -> loader.apply(id));
+    }
+
+    /**
+     * 수정된 회원의 캐시 항목을 새 정보로 교체한다.
+     *
+     * @param event 회원 정보 수정 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void put(MemberModifiedEvent event) {
+        if(!enabled) {
+            return;
+        }
+
+        cache.synchronous().put(event.getMemberId(), event.getMember());
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.Member;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * 무결성 위반이 이메일 unique 인덱스 때문인지 판별한다.
+ *
+ * NOT NULL, 길이, 권한 insert 등의 다른 위반은 이메일 중복이 아니므로 그대로 다시 던져야 한다.
+ */
+final class MemberEmailConstraint {
+
+    private MemberEmailConstraint() {
+    }
+
+    static boolean isViolatedBy(DataIntegrityViolationException e) {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if(cause instanceof ConstraintViolationException) {
+                String constraintName = ((ConstraintViolationException) cause).getConstraintName();
+                return constraintName != null && constraintName.toLowerCase().contains(Member.EMAIL_UNIQUE_INDEX);
+            }
+        }
+        return false;
+    }
+}
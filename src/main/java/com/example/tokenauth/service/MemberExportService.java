@@ -0,0 +1,61 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 모든 회원을 newline-delimited JSON 으로 내보내는 서비스.
+ *
+ * 회원 엔티티 대신 DTO projection 을 fetch size 단위로 읽어 바로 출력 스트림에 쓰기 때문에
+ * 영속성 컨텍스트에 쌓이는 엔티티가 없고, 회원 수와 관계없이 일정한 메모리만 사용한다.
+ */
+@Service
+public class MemberExportService {
+
+    private final MemberRepository memberRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter writer;
+
+    public MemberExportService(MemberRepository memberRepository, ObjectMapper objectMapper) {
+        this.memberRepository = memberRepository;
+        this.objectMapper = objectMapper;
+        this.writer = objectMapper.writerFor(MemberResponseData.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * 모든 회원을 한 줄에 하나씩 JSON 으로 출력한다.
+     *
+     * @param out 회원 정보를 쓸 출력 스트림, 이 메서드에서 닫지 않는다
+     * @return 출력한 회원 수
+     */
+    @Timed("member.service")
+    @Transactional(readOnly = true)
+    public long export(OutputStream out) throws IOException {
+        long count = 0;
+        try (Stream<MemberResponseData> members = memberRepository.streamAllMembers();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                     .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            Iterator<MemberResponseData> iterator = members.iterator();
+            while (iterator.hasNext()) {
+                writer.writeValue(generator, iterator.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+}
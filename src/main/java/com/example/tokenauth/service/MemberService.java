@@ -1,75 +1,117 @@
 package com.example.tokenauth.service;
 
+import com.example.tokenauth.domain.dto.MemberCursorResponseData;
 import com.example.tokenauth.domain.dto.MemberModificationData;
 import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
 import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.domain.entity.Member;
 import com.example.tokenauth.domain.entity.Role;
 import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.event.MemberModifiedEvent;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.example.tokenauth.domain.mapper.MemberMapper;
 import com.example.tokenauth.domain.repository.MemberRepository;
 import com.example.tokenauth.domain.repository.RoleRepository;
 import com.example.tokenauth.errors.MemberEmailDuplicationException;
 import com.example.tokenauth.errors.MemberNotFoundException;
-import org.modelmapper.ModelMapper;
+import com.example.tokenauth.utils.IdCursor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
 import javax.transaction.Transactional;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
-@Transactional
 public class MemberService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final MemberRepository memberRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ModelMapper modelMapper;
-
-    public MemberService(MemberRepository memberRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, ModelMapper modelMapper) {
+    private final MemberMapper memberMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RegisteredEmailFilter registeredEmailFilter;
+    private final TransactionOperations transactionOperations;
+    private final MemberCache memberCache;
+
+    public MemberService(MemberRepository memberRepository, RoleRepository roleRepository, PasswordEncoder passwordEncoder, MemberMapper memberMapper, ApplicationEventPublisher eventPublisher,
+                         RegisteredEmailFilter registeredEmailFilter, TransactionOperations transactionOperations,
+                         MemberCache memberCache) {
         this.memberRepository = memberRepository;
         this.roleRepository = roleRepository;
         this.passwordEncoder = passwordEncoder;
-        this.modelMapper = modelMapper;
+        this.memberMapper = memberMapper;
+        this.eventPublisher = eventPublisher;
+        this.registeredEmailFilter = registeredEmailFilter;
+        this.transactionOperations = transactionOperations;
+        this.memberCache = memberCache;
     }
 
     /**
      * 유저를 등록한다.
+     * 비밀번호는 트랜잭션을 시작하기 전에 해싱하여, 커넥션을 점유하는 동안에는
+     * 최종 해시를 가진 회원과 권한을 한 번씩만 저장한다.
+     * 이미 가입된 이메일은 해싱 전에 isExistsEmail 과 같은 방식으로 확인하여 BCrypt 비용 없이 거절한다.
+     * 확인과 저장 사이에 같은 이메일로 가입하는 경우는 member.email 의 unique 인덱스 위반으로 판단하므로,
+     * 같은 이메일로 동시에 가입하더라도 한 명만 등록된다.
      *
      * @param signUpData : 회원가입 요청 데이터
      * @return 회원가입된 유저
      * @throw 이메일 중복 예외
      */
+    @Timed("member.service")
     public MemberResponseData signUp(MemberRequestSignUpData signUpData) {
 
         String email = signUpData.getEmail();
-
-        if(memberRepository.existsByEmail(email)) {
+        if(isRegistered(email)) {
             throw new MemberEmailDuplicationException(email);
         }
 
-        Member savedMember = memberRepository.save(modelMapper.map(signUpData, Member.class));
-        savedMember.changePassword(signUpData.getPassword(), passwordEncoder);
+        Member member = memberMapper.toMember(signUpData, passwordEncoder.encode(signUpData.getPassword()));
+
+        Member savedMember;
+        try {
+            savedMember = transactionOperations.execute(status -> {
+                Member saved = memberRepository.saveAndFlush(member);
+                roleRepository.save(new Role(saved.getId(), RoleType.USER));
+                return saved;
+            });
+        } catch (DataIntegrityViolationException e) {
+            if(MemberEmailConstraint.isViolatedBy(e)) {
+                throw new MemberEmailDuplicationException(email);
+            }
+            throw e;
+        }
 
-        roleRepository.save(new Role(savedMember.getId(), RoleType.USER));
+        eventPublisher.publishEvent(new RoleChangedEvent(savedMember.getId()));
+        registeredEmailFilter.put(email);
 
-        return modelMapper.map(savedMember, MemberResponseData.class);
+        return memberMapper.toResponseData(savedMember);
     }
 
     /**
      * 특정 회원을 조회한다.
+     * 캐시된 회원이라면 저장소를 조회하지 않는다.
      *
      * @param id 회원 번호
      * @return 조회된 회원
      * @throw 존재하지 않는 회원 예외
      */
+    @Timed("member.service")
     public MemberResponseData getMember(Long id) {
-        Member member = findMember(id);
-        return modelMapper.map(member, MemberResponseData.class);
+        return memberCache.get(id, memberId -> memberMapper.toResponseData(findMember(memberId)));
     }
 
     /**
@@ -78,22 +120,47 @@ public class MemberService {
      * @param pageable : 페이징 정보
      * @return 모든 회원
      */
+    @Timed("member.service")
     public Page<MemberResponseData> getMembers(Pageable pageable) {
-        return memberRepository.findAll(pageable).map(member -> MemberResponseData.builder()
-                .email(member.getEmail())
-                .nickname(member.getNickname())
-                .build());
+        return memberRepository.findAll(pageable).map(memberMapper::toResponseData);
+    }
+
+    /**
+     * cursor 이후의 회원을 ID 순서로 조회한다.
+     * OFFSET 과 COUNT 쿼리 없이 ID 인덱스로 바로 이어서 읽기 때문에 페이지 깊이와 관계없이 비용이 일정하다.
+     *
+     * @param cursor 이전 조회 결과의 nextCursor, 처음 조회라면 null
+     * @param size 조회할 회원 수
+     * @return 조회된 회원과 다음 cursor, 마지막이라면 nextCursor 는 null
+     * @throw InvalidCursorException cursor 형식이 올바르지 않을 때
+     */
+    @Timed("member.service")
+    public MemberCursorResponseData getMembersAfter(String cursor, int size) {
+        Long lastId = cursor == null ? 0L : IdCursor.decode(cursor);
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_SIZE));
+
+        Slice<Member> members = memberRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, pageSize));
+        List<Member> content = members.getContent();
+
+        return MemberCursorResponseData.builder()
+                .content(content.stream()
+                        .map(memberMapper::toResponseData)
+                        .collect(Collectors.toList()))
+                .nextCursor(members.hasNext() ? IdCursor.encode(content.get(content.size() - 1).getId()) : null)
+                .build();
     }
 
     /**
      * 회원의 이메일을 받아서 존재하는 회원인지를 확인한다.
+     * 가입된 이메일 filter 에 없는 이메일은 저장소를 조회하지 않는다.
      *
      * @param email 존재 여부를 조회할 이메일
      * @return 존재하지 않는다면 false
      * @throw 이메일 중복 에러
      */
+    @Timed("member.service")
     public boolean isExistsEmail(String email) {
-        if(memberRepository.existsByEmail(email)) {
+        if(isRegistered(email)) {
             throw new MemberEmailDuplicationException(email);
         }
         return false;
@@ -101,6 +168,7 @@ public class MemberService {
 
     /**
      * 회원 정보를 수정한다.
+     * 트랜잭션이 커밋되면 회원 캐시의 항목을 수정된 정보로 교체한다.
      *
      * @param parsedId 토큰으로부터 복호된 요청 사용자의 정보
      * @param memberModificationData 정보 변경에 필요한 데이터
@@ -108,6 +176,8 @@ public class MemberService {
      * @return 수정된 사용자의 닉네임과 이메일 데이터
      * @throw AccessDeniedException
      */
+    @Transactional
+    @Timed("member.service")
     public MemberResponseData modify(Long parsedId,
                                      MemberModificationData memberModificationData,
                                      Long targetId) {
@@ -119,8 +189,14 @@ public class MemberService {
         member.changeNicknameFrom(memberModificationData);
 
         Member modifiedMember = memberRepository.save(member);
+        MemberResponseData modifiedData = memberMapper.toResponseData(modifiedMember);
+
+        eventPublisher.publishEvent(new MemberModifiedEvent(parsedId, modifiedData));
+        return modifiedData;
+    }
 
-        return modelMapper.map(modifiedMember, MemberResponseData.class);
+    private boolean isRegistered(String email) {
+        return registeredEmailFilter.mightContain(email) && memberRepository.existsByEmail(email);
     }
 
     private Member findMember(Long id) {
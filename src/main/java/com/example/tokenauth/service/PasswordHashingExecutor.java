@@ -0,0 +1,80 @@
+package com.example.tokenauth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱처럼 CPU 를 오래 점유하는 작업을 요청 스레드 대신 수행하는 전용 스레드 풀.
+ *
+ * 스레드 수는 코어 수에 맞추고 대기열의 크기를 제한하며,
+ * 대기열이 가득 차면 작업을 기다리게 하지 않고 즉시 RejectedExecutionException 을 던진다.
+ * 일괄 가입처럼 한 요청이 많은 비밀번호를 해싱하는 작업은 별도의 작은 풀에서 수행하여,
+ * 로그인과 단건 가입이 일괄 작업 뒤에서 기다리거나 거절되지 않게 한다.
+ */
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor bulkExecutor;
+
+    public PasswordHashingExecutor(@Value("${password.hashing.threads:0}") int threads,
+                                   @Value("${password.hashing.queue-capacity:200}") int queueCapacity,
+                                   @Value("${password.hashing.bulk-threads:0}") int bulkThreads,
+                                   @Value("${password.hashing.bulk-queue-capacity:2000}") int bulkQueueCapacity,
+                                   MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int bulkPoolSize = bulkThreads > 0 ? bulkThreads : Math.max(1, poolSize / 4);
+
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkExecutor = new ThreadPoolExecutor(bulkPoolSize, bulkPoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(bulkQueueCapacity),
+                new CustomizableThreadFactory("password-hashing-bulk-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "passwordHashing");
+        ExecutorServiceMetrics.monitor(meterRegistry, bulkExecutor, "passwordHashingBulk");
+    }
+
+    /**
+     * 작업을 해싱 스레드 풀에 등록한다.
+     *
+     * @param task 수행할 작업
+     * @return 작업 결과
+     * @throw RejectedExecutionException 대기열이 가득 찼을 때
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * 작업을 일괄 작업용 해싱 스레드 풀에 등록한다.
+     *
+     * @param task 수행할 작업
+     * @return 작업 결과
+     * @throw RejectedExecutionException 대기열이 가득 찼을 때
+     */
+    public <T> CompletableFuture<T> submitBulk(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, bulkExecutor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+        bulkExecutor.shutdown();
+    }
+}
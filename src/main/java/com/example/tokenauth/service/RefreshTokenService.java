@@ -0,0 +1,153 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.RefreshToken;
+import com.example.tokenauth.domain.repository.RefreshTokenRepository;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.transaction.Transactional;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Refresh Token 을 발급하고 소비하는 서비스.
+ *
+ * 토큰 원문은 클라이언트에게만 전달하고, 저장소에는 SHA-256 해시만 남긴다.
+ * 한 번 사용한 토큰은 삭제되므로 세션을 갱신할 때마다 새 토큰으로 교체된다.
+ * 만료된 토큰은 jwt.refresh-token.sweep-interval 마다 batch 단위로 삭제한다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionOperations transactionOperations;
+    private final Duration ttl;
+    private final int sweepBatchSize;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               TransactionOperations transactionOperations,
+                               @Value("${jwt.refresh-token.ttl:14d}") Duration ttl,
+                               @Value("${jwt.refresh-token.sweep-batch-size:1000}") int sweepBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionOperations = transactionOperations;
+        this.ttl = ttl;
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    /**
+     * 회원에게 새 Refresh Token 을 발급한다.
+     *
+     * @param memberId 토큰을 발급할 회원 ID
+     * @return 클라이언트에게 전달할 토큰 원문
+     */
+    public String issue(Long memberId) {
+        String token = newToken();
+        refreshTokenRepository.save(new RefreshToken(memberId, hash(token), expiresAt(LocalDateTime.now())));
+        return token;
+    }
+
+    /**
+     * 저장하지 않은 새 토큰 원문을 만든다. 저장소에는 hash 의 결과를 저장해야 한다.
+     *
+     * @return 클라이언트에게 전달할 토큰 원문
+     */
+    public String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * @param issuedAt 발급 시각
+     * @return jwt.refresh-token.ttl 이 지난 만료 시각
+     */
+    public LocalDateTime expiresAt(LocalDateTime issuedAt) {
+        return issuedAt.plus(ttl);
+    }
+
+    /**
+     * Refresh Token 을 소비하고 토큰의 주인을 반환한다.
+     * 같은 토큰으로 동시에 요청하더라도 삭제에 성공한 한 요청만 통과한다.
+     *
+     * @param token 클라이언트가 보낸 토큰 원문
+     * @return 회원 ID
+     * @throw InvalidRefreshTokenException 존재하지 않거나, 이미 사용되었거나, 만료된 토큰일 때
+     */
+    @Transactional
+    public Long consume(String token) {
+        if(token == null || token.isBlank()) {
+            throw new InvalidRefreshTokenException();
+        }
+
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(InvalidRefreshTokenException::new);
+
+        if(refreshTokenRepository.removeById(refreshToken.getId()) != 1
+                || refreshToken.isExpired(LocalDateTime.now())) {
+            throw new InvalidRefreshTokenException();
+        }
+        return refreshToken.getMemberId();
+    }
+
+    /**
+     * 만료된 토큰을 sweep-batch-size 개씩 나누어 삭제한다.
+     * batch 마다 별도의 트랜잭션을 사용하여 한 번에 긴 잠금을 잡지 않는다.
+     *
+     * @return 삭제한 토큰 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.sweep-interval:PT10M}",
+            initialDelayString = "${jwt.refresh-token.sweep-interval:PT10M}")
+    public int sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int swept = 0;
+        int deleted;
+        do {
+            deleted = transactionOperations.execute(status -> {
+                List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, sweepBatchSize));
+                return ids.isEmpty() ? 0 : refreshTokenRepository.removeAllByIdIn(ids);
+            });
+            swept += deleted;
+        } while (deleted == sweepBatchSize);
+
+        if(swept > 0) {
+            log.info("Swept {} expired refresh tokens", swept);
+        }
+        return swept;
+    }
+
+    /**
+     * @param token 토큰 원문
+     * @return 저장소에 저장하는 SHA-256 해시의 16진수 문자열
+     */
+    public static String hash(String token) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+            hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
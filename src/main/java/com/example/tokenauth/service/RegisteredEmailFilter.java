@@ -0,0 +1,107 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.example.tokenauth.utils.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 이메일의 Bloom filter.
+ *
+ * 기동이 끝나면 회원 테이블의 이메일을 스트리밍하여 채우고, 이후 가입될 때마다 이메일을 추가한다.
+ * 다른 인스턴스에서 가입된 이메일은 member.email-filter.poll-interval 마다 created_date 로 가져오므로,
+ * 그 사이에는 다른 인스턴스에서 막 가입된 이메일을 확실히 없다고 판단할 수 있다.
+ * 확실히 없는 이메일만 걸러내므로 mightContain 이 true 라면 저장소에서 다시 확인해야 한다.
+ * 적재가 끝나기 전이나 비활성화되어 있을 때는 항상 true 를 반환한다.
+ */
+@Component
+public class RegisteredEmailFilter {
+
+    /**
+     * 커밋이 늦게 보이는 행과 인스턴스 사이의 시계 차이를 놓치지 않기 위해 이전 조회 시각보다 앞서서 다시 읽는 구간.
+     */
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final boolean enabled;
+    private final MemberRepository memberRepository;
+    private final BloomFilter filter;
+    private volatile boolean loaded;
+    private volatile LocalDateTime lastPolledAt;
+
+    public RegisteredEmailFilter(@Value("${member.email-filter.enabled:true}") boolean enabled,
+                                 @Value("${member.email-filter.expected-insertions:1000000}") long expectedInsertions,
+                                 @Value("${member.email-filter.false-positive-probability:0.01}") double falsePositiveProbability,
+                                 MemberRepository memberRepository,
+                                 MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.memberRepository = memberRepository;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+
+        Gauge.builder("member.email.filter.false.positive.probability", filter,
+                        BloomFilter::expectedFalsePositiveProbability)
+                .register(meterRegistry);
+        Gauge.builder("member.email.filter.size", filter, BloomFilter::sizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 회원 테이블의 모든 이메일을 filter 에 추가한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if(!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try (Stream<String> emails = memberRepository.streamAllEmails()) {
+            emails.forEach(filter::put);
+        }
+        lastPolledAt = now;
+        loaded = true;
+    }
+
+    /**
+     * 마지막 조회 이후 가입된 이메일을 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${member.email-filter.poll-interval:PT5S}")
+    public void poll() {
+        LocalDateTime since = lastPolledAt;
+        if(!enabled || since == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        memberRepository.findAllEmailsByCreatedDateAfter(since.minus(POLL_OVERLAP)).forEach(filter::put);
+        lastPolledAt = now;
+    }
+
+    /**
+     * @param email 확인할 이메일
+     * @return 가입되었을 수도 있다면 true, 확실히 가입되지 않았다면 false
+     */
+    public boolean mightContain(String email) {
+        return !enabled || !loaded || filter.mightContain(email);
+    }
+
+    /**
+     * 새로 가입된 이메일을 추가한다.
+     *
+     * @param email 가입된 이메일
+     */
+    public void put(String email) {
+        filter.put(email);
+    }
+}
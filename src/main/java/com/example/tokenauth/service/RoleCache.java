@@ -0,0 +1,87 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 회원별 권한 목록을 보관하는 캐시.
+ *
+ * 권한 목록은 변경할 수 없는 형태로 보관되며, 크기와 시간 기준으로 만료된다.
+ * RoleChangedEvent 를 발행한 트랜잭션이 커밋되면 해당 회원의 항목을 제거한다.
+ * 비동기 조회와 함께 쓰기 위해 AsyncCache 로 보관하며, 조회 중인 항목이 제거되면 그 결과는 캐시되지 않는다.
+ * 동기 조회의 loader 는 호출한 스레드에서 실행된다.
+ */
+@Component
+public class RoleCache {
+
+    private final boolean enabled;
+    private final AsyncCache<Long, List<Role>> cache;
+
+    public RoleCache(@Value("${roles.cache.enabled:true}") boolean enabled,
+                     @Value("${roles.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${roles.cache.expire-after-write:1m}") Duration expireAfterWrite,
+                     MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "roles");
+    }
+
+    /**
+     * 캐시된 권한 목록을 반환하고, 없다면 loader 로 조회한 결과를 캐시한다.
+     *
+     * @param memberId 권한을 조회하려는 회원 ID
+     * @param loader 캐시에 없을 때 권한을 조회하는 함수
+     * @return 변경할 수 없는 권한 리스트
+     */
+    public List<Role> get(Long memberId, Function<Long, List<Role>> loader) {
+        if(!enabled) {
+            return loader.apply(memberId);
+        }
+
+        return cache.synchronous().get(memberId, id -> List.copyOf(loader.apply(id)));
+    }
+
+    /**
+     * 캐시된 권한 목록을 반환하고, 없다면 loader 가 비동기로 조회한 결과를 캐시한다.
+     * 같은 회원을 동시에 조회하면 loader 는 한 번만 호출된다.
+     *
+     * @param memberId 권한을 조회하려는 회원 ID
+     * @param loader 캐시에 없을 때 권한을 비동기로 조회하는 함수
+     * @return 변경할 수 없는 권한 리스트
+     */
+    public CompletableFuture<List<Role>> getAsync(Long memberId, Function<Long, CompletableFuture<List<Role>>> loader) {
+        if(!enabled) {
+            return loader.apply(memberId).thenApply(List::copyOf);
+        }
+
+        return cache.get(memberId, (id, executor) -> loader.apply(id).thenApply(List::copyOf));
+    }
+
+    /**
+     * 권한이 바뀐 회원의 캐시 항목을 제거한다.
+     *
+     * @param event 권한 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void evict(RoleChangedEvent event) {
+        cache.synchronous().invalidate(event.getMemberId());
+    }
+}
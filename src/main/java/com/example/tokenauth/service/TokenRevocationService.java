@@ -0,0 +1,137 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.RevokedToken;
+import com.example.tokenauth.domain.repository.RevokedTokenRepository;
+import com.example.tokenauth.security.RevokedTokenSet;
+import com.example.tokenauth.security.VerifiedToken;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.stream.Stream;
+
+/**
+ * Access Token 폐기 목록을 관리하는 서비스.
+ *
+ * 폐기된 토큰은 revoked_token 테이블에 저장하고, 요청마다 저장소를 조회하지 않도록 메모리 집합에도 유지한다.
+ * 다른 인스턴스에서 폐기된 토큰은 jwt.revocation.poll-interval 마다 가져오며,
+ * 만료된 토큰은 jwt.revocation.sweep-interval 마다 테이블과 메모리 집합에서 제거한다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    /**
+     * 커밋이 늦게 보이는 행과 인스턴스 사이의 시계 차이를 놓치지 않기 위해 이전 조회 시각보다 앞서서 다시 읽는 구간.
+     */
+    private static final Duration POLL_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final RevokedTokenSet revokedTokens;
+    private volatile LocalDateTime lastPolledAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${jwt.revocation.false-positive-probability:0.001}") double falsePositiveProbability,
+                                  MeterRegistry meterRegistry) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.revokedTokens = new RevokedTokenSet(expectedInsertions, falsePositiveProbability);
+
+        Gauge.builder("auth.revoked.tokens", revokedTokens, RevokedTokenSet::size)
+                .register(meterRegistry);
+        Gauge.builder("auth.revoked.tokens.filter.size", revokedTokens, RevokedTokenSet::filterSizeInBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아직 만료되지 않은 폐기 토큰을 모두 메모리 집합에 적재한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        try (Stream<RevokedToken> tokens = revokedTokenRepository.streamAllUnexpired(now)) {
+            tokens.forEach(this::add);
+        }
+        lastPolledAt = now;
+    }
+
+    /**
+     * @param verifiedToken 서명 검증을 마친 토큰
+     * @return 폐기된 토큰이라면 true
+     */
+    public boolean isRevoked(VerifiedToken verifiedToken) {
+        String tokenId = verifiedToken.getTokenId();
+        return tokenId != null && revokedTokens.contains(tokenId);
+    }
+
+    /**
+     * 토큰을 폐기한다. 폐기 기록은 토큰이 만료될 때까지만 유지된다.
+     *
+     * @param verifiedToken 토큰 ID 와 만료 시각이 담긴 토큰
+     */
+    @Transactional
+    public void revoke(VerifiedToken verifiedToken) {
+        RevokedToken revokedToken = new RevokedToken(verifiedToken.getTokenId(), verifiedToken.getMemberId(),
+                toLocalDateTime(verifiedToken.getExpiresAt()), LocalDateTime.now());
+        revokedTokenRepository.save(revokedToken);
+        revokedTokens.add(revokedToken.getTokenId(), verifiedToken.getExpiresAt());
+    }
+
+    /**
+     * 마지막 조회 이후 폐기된 토큰을 가져온다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.poll-interval:PT5S}")
+    public void poll() {
+        LocalDateTime since = lastPolledAt;
+        if(since == null) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        revokedTokenRepository.findAllByRevokedAtAfter(since.minus(POLL_OVERLAP)).forEach(this::add);
+        lastPolledAt = now;
+    }
+
+    /**
+     * 만료된 폐기 기록을 테이블과 메모리 집합에서 제거한다.
+     *
+     * @return 테이블에서 삭제한 행 수
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.sweep-interval:PT10M}",
+            initialDelayString = "${jwt.revocation.sweep-interval:PT10M}")
+    @Transactional
+    public int sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = revokedTokenRepository.removeAllExpired(now);
+        int pruned = revokedTokens.prune(toEpochSecond(now));
+
+        if(deleted > 0 || pruned > 0) {
+            log.info("Swept {} expired revocations, pruned {} from memory", deleted, pruned);
+        }
+        return deleted;
+    }
+
+    private void add(RevokedToken revokedToken) {
+        revokedTokens.add(revokedToken.getTokenId(), toEpochSecond(revokedToken.getExpiresAt()));
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.tokenauth.utils;
+
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.security.VerifiedToken;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * JwtUtil 이 발급한 HMAC 토큰을 jjwt 파서 없이 검증하는 경량 검증기.
+ *
+ * 풀에 보관한 초기화된 Mac 과 버퍼를 재사용하여 서명을 원본 바이트 위에서 확인하고,
+ * Claims 맵을 만들지 않고 payload 에서 필요한 claim 만 읽어낸다.
+ */
+final class HmacJwsVerifier {
+
+    private static final char[] ENCODE_TABLE =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".toCharArray();
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < ENCODE_TABLE.length; i++) {
+            DECODE_TABLE[ENCODE_TABLE[i]] = (byte) i;
+        }
+    }
+
+    private static final int MAX_IDLE_BUFFERS = 256;
+
+    private final String header;
+    private final ObjectPool<Buffers> buffers;
+
+    HmacJwsVerifier(SecretKey key) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forSigningKey(key);
+        String headerJson = "{\"alg\":\"" + algorithm.getValue() + "\"}";
+
+        this.header = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(headerJson.getBytes(StandardCharsets.UTF_8));
+        this.buffers = new ObjectPool<>(() -> new Buffers(key, algorithm.getJcaName()), MAX_IDLE_BUFFERS);
+    }
+
+    /**
+     * 이 검증기가 처리할 수 있는 헤더를 가진 토큰인지 확인한다.
+     *
+     * @param token Bearer 접두사가 빠진 순수 토큰 문자열
+     * @return JwtUtil 이 발급한 형태의 헤더라면 true
+     */
+    boolean supports(String token) {
+        return token.length() > header.length()
+                && token.startsWith(header)
+                && token.charAt(header.length()) == '.';
+    }
+
+    /**
+     * 토큰의 서명을 검증하고 payload 에서 사용자 ID, 권한, 토큰 ID, 만료 시각 claim 을 읽는다.
+     *
+     * @param token supports 를 통과한 토큰
+     * @return 검증된 토큰 정보, 권한 claim 이 없다면 roleTypes 는 null
+     * @throw InvalidTokenException 서명이 일치하지 않거나, 사용자 ID claim 이 없거나, 만료되었을 때
+     */
+    VerifiedToken verify(String token, String memberIdClaim, String rolesClaim,
+                         String idClaim, String expirationClaim) {
+        Buffers buffers = this.buffers.acquire();
+        try {
+            return read(token, buffers, memberIdClaim, rolesClaim, idClaim, expirationClaim);
+        } finally {
+            this.buffers.release(buffers);
+        }
+    }
+
+    private VerifiedToken read(String token, Buffers buffers, String memberIdClaim, String rolesClaim,
+                               String idClaim, String expirationClaim) {
+        int payloadLength = verify(token, buffers);
+        byte[] payload = buffers.payload;
+
+        int memberIdOffset = JsonScanner.valueOffset(payload, payloadLength, memberIdClaim);
+        if (memberIdOffset < 0) {
+            throw new InvalidTokenException(token);
+        }
+        long memberId = JsonScanner.parseLong(payload, memberIdOffset, payloadLength, token);
+
+        int rolesOffset = JsonScanner.valueOffset(payload, payloadLength, rolesClaim);
+        Set<RoleType> roleTypes = rolesOffset < 0 ? null
+                : JsonScanner.parseEnumSet(payload, rolesOffset, payloadLength, RoleType.class, token);
+
+        int idOffset = JsonScanner.valueOffset(payload, payloadLength, idClaim);
+        String tokenId = idOffset < 0 ? null : JsonScanner.parseString(payload, idOffset, payloadLength, token);
+
+        int expirationOffset = JsonScanner.valueOffset(payload, payloadLength, expirationClaim);
+        Long expiresAt = null;
+        if (expirationOffset >= 0) {
+            expiresAt = JsonScanner.parseLong(payload, expirationOffset, payloadLength, token);
+            if (System.currentTimeMillis() >= expiresAt * 1000) {
+                throw new InvalidTokenException(token);
+            }
+        }
+
+        return new VerifiedToken(memberId, roleTypes, tokenId, expiresAt);
+    }
+
+    private int verify(String token, Buffers buffers) {
+        int payloadStart = header.length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart) + 1;
+
+        if (signatureStart <= payloadStart || token.indexOf('.', signatureStart) >= 0) {
+            throw new InvalidTokenException(token);
+        }
+
+        int signingInputLength = signatureStart - 1;
+        byte[] input = buffers.input(signingInputLength);
+        for (int i = 0; i < signingInputLength; i++) {
+            input[i] = (byte) token.charAt(i);
+        }
+
+        Mac mac = buffers.mac;
+        mac.update(input, 0, signingInputLength);
+        try {
+            mac.doFinal(buffers.digest, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (!signatureMatches(token, signatureStart, buffers.digest)) {
+            throw new InvalidTokenException(token);
+        }
+
+        return decode(token, payloadStart, signingInputLength, buffers.payload(signingInputLength - payloadStart));
+    }
+
+    private static boolean signatureMatches(String token, int offset, byte[] digest) {
+        int expectedLength = (digest.length * 8 + 5) / 6;
+        if (token.length() - offset != expectedLength) {
+            return false;
+        }
+
+        int difference = 0;
+        int bits = 0;
+        int bitCount = 0;
+        int position = offset;
+        for (byte b : digest) {
+            bits = (bits << 8) | (b & 0xff);
+            bitCount += 8;
+            while (bitCount >= 6) {
+                bitCount -= 6;
+                difference |= ENCODE_TABLE[(bits >> bitCount) & 0x3f] ^ token.charAt(position++);
+            }
+        }
+        if (bitCount > 0) {
+            difference |= ENCODE_TABLE[(bits << (6 - bitCount)) & 0x3f] ^ token.charAt(position);
+        }
+        return difference == 0;
+    }
+
+    private static int decode(String token, int start, int end, byte[] out) {
+        int length = 0;
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = start; i < end; i++) {
+            char c = token.charAt(i);
+            int value = c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+            if (value < 0) {
+                throw new InvalidTokenException(token);
+            }
+            bits = (bits << 6) | value;
+            bitCount += 6;
+            if (bitCount >= 8) {
+                bitCount -= 8;
+                out[length++] = (byte) (bits >> bitCount);
+            }
+        }
+        return length;
+    }
+
+    private static final class Buffers {
+        private final Mac mac;
+        private final byte[] digest;
+        private byte[] input = new byte[512];
+        private byte[] payload = new byte[384];
+
+        private Buffers(SecretKey key, String algorithm) {
+            try {
+                this.mac = Mac.getInstance(algorithm);
+                this.mac.init(key);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            this.digest = new byte[mac.getMacLength()];
+        }
+
+        private byte[] input(int length) {
+            if (input.length < length) {
+                input = new byte[length];
+            }
+            return input;
+        }
+
+        private byte[] payload(int encodedLength) {
+            int length = encodedLength * 3 / 4 + 1;
+            if (payload.length < length) {
+                payload = new byte[length];
+            }
+            return payload;
+        }
+    }
+}
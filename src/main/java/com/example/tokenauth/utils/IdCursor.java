@@ -0,0 +1,43 @@
+package com.example.tokenauth.utils;
+
+import com.example.tokenauth.errors.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이징에서 마지막으로 조회한 ID 를 클라이언트에게 넘겨줄 불투명한 cursor 로 변환한다.
+ */
+public final class IdCursor {
+
+    private static final String PREFIX = "id:";
+
+    private IdCursor() {
+    }
+
+    /**
+     * @param id 마지막으로 조회한 ID
+     * @return base64url 로 인코딩된 cursor
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * @param cursor encode 로 만든 cursor
+     * @return cursor 에 담긴 ID
+     * @throw InvalidCursorException 형식이 올바르지 않을 때
+     */
+    public static Long decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if(!decoded.startsWith(PREFIX)) {
+                throw new InvalidCursorException(cursor);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.tokenauth.utils;
+
+import com.example.tokenauth.errors.InvalidTokenException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 서명이 검증된 JWT payload 에서 최상위 claim 값의 위치만 찾아내는 최소한의 JSON 스캐너.
+ * 객체를 만들지 않고 바이트 배열 위에서만 동작한다.
+ */
+final class JsonScanner {
+
+    private JsonScanner() {
+    }
+
+    /**
+     * 최상위 객체에서 name 에 해당하는 값의 시작 위치를 찾는다.
+     *
+     * @return 값의 시작 위치, 없다면 -1
+     */
+    static int valueOffset(byte[] json, int length, String name) {
+        int i = skipWhitespace(json, 0, length);
+        if (i >= length || json[i] != '{') {
+            return -1;
+        }
+        i = skipWhitespace(json, i + 1, length);
+        if (i < length && json[i] == '}') {
+            return -1;
+        }
+
+        while (i < length && json[i] == '"') {
+            int keyEnd = skipString(json, i, length);
+            if (keyEnd < 0) {
+                return -1;
+            }
+            boolean matched = nameEquals(json, i + 1, keyEnd - 1, name);
+
+            i = skipWhitespace(json, keyEnd, length);
+            if (i >= length || json[i] != ':') {
+                return -1;
+            }
+            i = skipWhitespace(json, i + 1, length);
+            if (matched) {
+                return i;
+            }
+
+            i = skipValue(json, i, length);
+            if (i < 0) {
+                return -1;
+            }
+            i = skipWhitespace(json, i, length);
+            if (i >= length || json[i] != ',') {
+                return -1;
+            }
+            i = skipWhitespace(json, i + 1, length);
+        }
+        return -1;
+    }
+
+    static long parseLong(byte[] json, int offset, int length, String token) {
+        int i = offset;
+        boolean negative = i < length && json[i] == '-';
+        if (negative) {
+            i++;
+        }
+
+        int start = i;
+        long value = 0;
+        while (i < length && json[i] >= '0' && json[i] <= '9') {
+            value = value * 10 + (json[i] - '0');
+            i++;
+        }
+
+        int digits = i - start;
+        if (digits == 0 || digits > 18 || (i < length && !isDelimiter(json[i]))) {
+            throw new InvalidTokenException(token);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * escape 가 없는 ASCII 문자열 값을 읽는다.
+     */
+    static String parseString(byte[] json, int offset, int length, String token) {
+        if (offset >= length || json[offset] != '"') {
+            throw new InvalidTokenException(token);
+        }
+        int end = skipString(json, offset, length);
+        if (end < 0) {
+            throw new InvalidTokenException(token);
+        }
+        for (int i = offset + 1; i < end - 1; i++) {
+            if (json[i] == '\\' || json[i] < 0x20) {
+                throw new InvalidTokenException(token);
+            }
+        }
+        return new String(json, offset + 1, end - offset - 2, StandardCharsets.US_ASCII);
+    }
+
+    static <E extends Enum<E>> Set<E> parseEnumSet(byte[] json, int offset, int length,
+                                                   Class<E> type, String token) {
+        if (offset >= length || json[offset] != '[') {
+            throw new InvalidTokenException(token);
+        }
+
+        Set<E> values = EnumSet.noneOf(type);
+        int i = skipWhitespace(json, offset + 1, length);
+        if (i < length && json[i] == ']') {
+            return values;
+        }
+
+        while (i < length && json[i] == '"') {
+            int end = skipString(json, i, length);
+            if (end < 0) {
+                throw new InvalidTokenException(token);
+            }
+            values.add(constant(json, i + 1, end - 1, type, token));
+
+            i = skipWhitespace(json, end, length);
+            if (i < length && json[i] == ']') {
+                return values;
+            }
+            if (i >= length || json[i] != ',') {
+                throw new InvalidTokenException(token);
+            }
+            i = skipWhitespace(json, i + 1, length);
+        }
+        throw new InvalidTokenException(token);
+    }
+
+    private static <E extends Enum<E>> E constant(byte[] json, int start, int end,
+                                                  Class<E> type, String token) {
+        for (E constant : type.getEnumConstants()) {
+            if (nameEquals(json, start, end, constant.name())) {
+                return constant;
+            }
+        }
+        throw new InvalidTokenException(token);
+    }
+
+    private static boolean nameEquals(byte[] json, int start, int end, String name) {
+        if (end - start != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            if (json[start + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int skipValue(byte[] json, int i, int length) {
+        if (i >= length) {
+            return -1;
+        }
+        byte first = json[i];
+        if (first == '"') {
+            return skipString(json, i, length);
+        }
+        if (first == '{' || first == '[') {
+            int depth = 0;
+            while (i < length) {
+                byte b = json[i];
+                if (b == '"') {
+                    i = skipString(json, i, length);
+                    if (i < 0) {
+                        return -1;
+                    }
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+            return -1;
+        }
+        while (i < length && !isDelimiter(json[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipString(byte[] json, int i, int length) {
+        for (i = i + 1; i < length; i++) {
+            if (json[i] == '\\') {
+                i++;
+            } else if (json[i] == '"') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(byte[] json, int i, int length) {
+        while (i < length && (json[i] == ' ' || json[i] == '\t' || json[i] == '\n' || json[i] == '\r')) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isDelimiter(byte b) {
+        return b == ',' || b == '}' || b == ']' || b == ' ' || b == '\t' || b == '\n' || b == '\r';
+    }
+}
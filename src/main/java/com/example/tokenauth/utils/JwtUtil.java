@@ -1,21 +1,84 @@
 package com.example.tokenauth.utils;
 
+import com.example.tokenauth.domain.entity.RoleType;
 import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.security.SigningKeyRing;
+import com.example.tokenauth.security.VerifiedToken;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 public class JwtUtil {
 
-    private final Key key;
+    private static final String MEMBER_ID = "memberId";
+    private static final String ROLES = "roles";
 
-    public JwtUtil(@Value("${jwt.secret}") String secret) {
-        key = Keys.hmacShaKeyFor(secret.getBytes());
+    private final SecretKey key;
+    private final SigningKeyRing keyRing;
+    private final Instant acceptLegacyHmacUntil;
+    private final Duration accessTokenTtl;
+    private final JwtParser parser;
+    private final HmacJwsVerifier verifier;
+
+    public JwtUtil(String secret) {
+        this(secret, (SigningKeyRing) null);
+    }
+
+    public JwtUtil(String secret, SigningKeyRing keyRing) {
+        this(secret, keyRing, Duration.ZERO);
+    }
+
+    /**
+     * 키 묶음이 있다면 ES256 으로 서명하고 kid 로 검증 키를 찾으며, kid 가 없는 HMAC 토큰은 거부한다.
+     * 전환 기간이 필요하다면 jwt.signing.accept-legacy-hmac-until 시각 전까지만 기존 HMAC 토큰을 secret 으로 검증한다.
+     * jwt.access-token-ttl 이 0 이라면 토큰 ID 와 만료 시각 없이 발급한다.
+     */
+    @Autowired
+    public JwtUtil(@Value("${jwt.secret}") String secret, ObjectProvider<SigningKeyRing> keyRing,
+                   @Value("${jwt.access-token-ttl:0}") Duration accessTokenTtl,
+                   @Value("${jwt.signing.accept-legacy-hmac-until:#{null}}") Instant acceptLegacyHmacUntil) {
+        this(secret, keyRing.getIfAvailable(), accessTokenTtl, acceptLegacyHmacUntil);
+    }
+
+    public JwtUtil(String secret, SigningKeyRing keyRing, Duration accessTokenTtl) {
+        this(secret, keyRing, accessTokenTtl, null);
+    }
+
+    /**
+     * @param acceptLegacyHmacUntil 키 묶음이 있을 때 kid 가 없는 HMAC 토큰을 받아들이는 마지막 시각, null 이라면 받지 않는다
+     */
+    public JwtUtil(String secret, SigningKeyRing keyRing, Duration accessTokenTtl, Instant acceptLegacyHmacUntil) {
+        this.keyRing = keyRing;
+        this.acceptLegacyHmacUntil = keyRing == null ? null : acceptLegacyHmacUntil;
+        this.key = keyRing == null || acceptLegacyHmacUntil != null ? Keys.hmacShaKeyFor(secret.getBytes()) : null;
+        this.accessTokenTtl = accessTokenTtl;
+        this.parser = keyRing == null
+                ? Jwts.parserBuilder().setSigningKey(key).build()
+                : Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return verificationKey(header);
+                    }
+                }).build();
+        this.verifier = key == null ? null : new HmacJwsVerifier(key);
     }
 
     /**
@@ -25,9 +88,24 @@ public class JwtUtil {
      * @return Jwt 토큰 문자열
      */
     public String encode(Long memberId) {
-        return Jwts.builder()
-                .claim("memberId", memberId)
-                .signWith(key)
+        return builder()
+                .claim(MEMBER_ID, memberId)
+                .compact();
+    }
+
+    /**
+     * 사용자 ID와 권한을 받아 권한이 담긴 토큰을 생성한다.
+     *
+     * @param memberId 사용자 ID 칼럼 번호
+     * @param roleTypes 토큰에 담을 사용자 권한
+     * @return Jwt 토큰 문자열
+     */
+    public String encode(Long memberId, Collection<RoleType> roleTypes) {
+        return builder()
+                .claim(MEMBER_ID, memberId)
+                .claim(ROLES, roleTypes.stream()
+                        .map(RoleType::name)
+                        .collect(Collectors.toList()))
                 .compact();
     }
 
@@ -36,21 +114,116 @@ public class JwtUtil {
      *
      * @param token Bearer 접두사가 빠진 순수 토큰 문자열 정보
      * @return 사용자 정보가 담겨있는 Claim
-     * @throw InvalidTokenException 토큰이 비이었거나 null 일 때, 서버의 Secret 으로 암호화 되지 않은 토큰을 보낼 때
+     * @throw InvalidTokenException 토큰이 비이었거나 null 일 때, JWS 형태가 아니거나 서버의 Secret 으로 암호화 되지 않은 토큰을 보낼 때
      */
+    @Timed("auth.jwt.decode")
     public Claims decode(String token) {
 
-        if(token == null || token.isBlank() || token.isEmpty()) {
+        if(token == null || !TokenFormat.isWellFormed(token)) {
             throw new InvalidTokenException(token);
         }
 
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
+            return parser.parseClaimsJws(token)
                     .getBody();
-        } catch (SignatureException e) {
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException(token);
+        }
+    }
+
+    /**
+     * 사용자 토큰을 받아 Claims 를 만들지 않고 사용자 ID 만 반환한다.
+     *
+     * @param token Bearer 접두사가 빠진 순수 토큰 문자열 정보
+     * @return 사용자 ID
+     * @throw InvalidTokenException 토큰이 비었거나 null 일 때, 서버의 Secret 으로 암호화 되지 않은 토큰을 보낼 때
+     */
+    public Long decodeMemberId(String token) {
+        return decodeToken(token).getMemberId();
+    }
+
+    /**
+     * 사용자 토큰을 받아 사용자 ID 와 토큰에 담긴 권한을 반환한다.
+     * HMAC 토큰을 받아들이는 동안에는 이 서버가 발급한 형태의 HMAC 토큰을 풀에 보관한 Mac 으로 직접 검증하고, 그 외의 토큰은 decode 로 처리한다.
+     * 어느 쪽이든 서명을 확인하기 전에 길이, segment 수, base64url 문자 여부를 먼저 확인한다.
+     *
+     * @param token Bearer 접두사가 빠진 순수 토큰 문자열 정보
+     * @return 검증된 토큰 정보, 권한이 담기지 않은 토큰이라면 roleTypes 는 null
+     * @throw InvalidTokenException 토큰이 비었거나 null 일 때, JWS 형태가 아니거나 서버의 Secret 으로 암호화 되지 않은 토큰을 보낼 때
+     */
+    @Timed("auth.jwt.decode")
+    public VerifiedToken decodeToken(String token) {
+
+        if(token == null || !TokenFormat.isWellFormed(token)) {
+            throw new InvalidTokenException(token);
+        }
+
+        if(verifier != null && acceptsHmac() && verifier.supports(token)) {
+            return verifier.verify(token, MEMBER_ID, ROLES, Claims.ID, Claims.EXPIRATION);
+        }
+
+        Claims claims = decode(token);
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(claims.get(MEMBER_ID, Long.class), roleTypes(claims, token), claims.getId(),
+                expiration == null ? null : expiration.getTime() / 1000);
+    }
+
+    private JwtBuilder builder() {
+        JwtBuilder builder = Jwts.builder();
+
+        if(!accessTokenTtl.isZero()) {
+            long now = System.currentTimeMillis();
+            builder.setId(UUID.randomUUID().toString())
+                    .setIssuedAt(new Date(now))
+                    .setExpiration(new Date(now + accessTokenTtl.toMillis()));
+        }
+
+        if(keyRing == null) {
+            return builder.signWith(key);
+        }
+
+        SigningKeyRing.SigningKey signingKey = keyRing.signingKey();
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .signWith(signingKey.getPrivateKey(), SignatureAlgorithm.ES256);
+    }
+
+    private Key verificationKey(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        if(kid == null) {
+            if(key == null || !acceptsHmac()) {
+                throw new SignatureException("Missing kid");
+            }
+            return key;
+        }
+
+        Key verificationKey = keyRing.verificationKey(kid);
+        if(verificationKey == null) {
+            throw new SignatureException("Unknown kid: " + kid);
+        }
+        return verificationKey;
+    }
+
+    /**
+     * ES256 모드에서는 전환 기간이 끝나면 secret 을 더 이상 서명 수단으로 인정하지 않는다.
+     */
+    private boolean acceptsHmac() {
+        return acceptLegacyHmacUntil == null
+                ? keyRing == null
+                : Instant.now().isBefore(acceptLegacyHmacUntil);
+    }
+
+    private static Set<RoleType> roleTypes(Claims claims, String token) {
+        List<?> roles = claims.get(ROLES, List.class);
+        if(roles == null) {
+            return null;
+        }
+
+        try {
+            Set<RoleType> roleTypes = EnumSet.noneOf(RoleType.class);
+            roles.forEach(role -> roleTypes.add(RoleType.valueOf(String.valueOf(role))));
+            return roleTypes;
+        } catch (IllegalArgumentException e) {
             throw new InvalidTokenException(token);
         }
     }
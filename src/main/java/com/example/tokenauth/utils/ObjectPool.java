@@ -0,0 +1,51 @@
+package com.example.tokenauth.utils;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 만들기 비싼 객체를 스레드 사이에서 돌려 쓰는 잠금 없는 풀.
+ *
+ * ThreadLocal 은 요청마다 새 스레드가 만들어지는 가상 스레드 환경에서 재사용이 일어나지 않으므로,
+ * 스레드 대신 동시에 사용 중인 개수만큼만 객체를 유지한다.
+ * 풀이 비어 있으면 새로 만들고, 반납 시 maxIdle 을 넘는 객체는 버린다.
+ */
+public class ObjectPool<T> {
+
+    private final Supplier<T> factory;
+    private final int maxIdle;
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * @param factory 풀이 비어 있을 때 객체를 만드는 함수
+     * @param maxIdle 반납된 객체를 보관할 최대 개수
+     */
+    public ObjectPool(Supplier<T> factory, int maxIdle) {
+        this.factory = factory;
+        this.maxIdle = maxIdle;
+    }
+
+    public T acquire() {
+        T object = idle.poll();
+        if (object == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return object;
+    }
+
+    public void release(T object) {
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(object);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+    public int idleCount() {
+        return idleCount.get();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.tokenauth.utils;
+
+/**
+ * 서명을 확인하기 전에 토큰의 모양만으로 걸러내는 검사.
+ *
+ * 길이 제한, 점으로 구분된 세 개의 비어 있지 않은 segment, base64url 문자만 허용하며,
+ * 문자열을 한 번 훑는 것 외에는 아무것도 만들지 않는다.
+ */
+final class TokenFormat {
+
+    static final int MAX_LENGTH = 4096;
+
+    private TokenFormat() {
+    }
+
+    static boolean isWellFormed(String token) {
+        int length = token.length();
+        if (length > MAX_LENGTH) {
+            return false;
+        }
+
+        int separators = 0;
+        int segmentLength = 0;
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++separators > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if (isBase64Url(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+        return separators == 2 && segmentLength > 0;
+    }
+
+    private static boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.tokenauth.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 가상 스레드 executor 를 만든다.
+ *
+ * 빌드 대상은 Java 11 이므로 Java 21 의 API 는 리플렉션으로 호출하며,
+ * 실행 중인 JVM 이 가상 스레드를 지원하지 않으면 IllegalStateException 을 던진다.
+ */
+public final class VirtualThreads {
+
+    private static final int MINIMUM_FEATURE_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    public static boolean isSupported() {
+        return Runtime.version().feature() >= MINIMUM_FEATURE_VERSION;
+    }
+
+    /**
+     * 작업마다 새 가상 스레드를 만드는 executor 를 반환한다.
+     *
+     * @param namePrefix 스레드 이름 접두사, 뒤에 0 부터 증가하는 번호가 붙는다
+     * @return 가상 스레드 executor
+     * @throws IllegalStateException 실행 중인 JVM 이 Java 21 미만일 때
+     */
+    public static ExecutorService newExecutor(String namePrefix) {
+        if (!isSupported()) {
+            throw new IllegalStateException("가상 스레드는 Java " + MINIMUM_FEATURE_VERSION
+                    + " 이상에서만 사용할 수 있습니다. 현재 버전: " + Runtime.version());
+        }
+
+        try {
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+create sequence member_seq start with 1 increment by 50;
+create sequence role_seq start with 1 increment by 50;
+create sequence refresh_token_seq start with 1 increment by 50;
+
+create table member (
+    id                 bigint       not null,
+    created_date       timestamp,
+    last_modified_date timestamp,
+    email              varchar(255),
+    nickname           varchar(255),
+    password           varchar(255),
+    primary key (id)
+);
+
+-- 가입 시 이메일 중복은 이 인덱스의 제약 위반으로 판단한다
+create unique index ux_member_email on member (email);
+
+create table role (
+    id        bigint not null,
+    member_id bigint,
+    role_type integer,
+    primary key (id)
+);
+
+create index ix_role_member_id on role (member_id);
+
+create table refresh_token (
+    id         bigint      not null,
+    expires_at timestamp   not null,
+    member_id  bigint      not null,
+    token_hash varchar(64) not null,
+    primary key (id)
+);
+
+create unique index ux_refresh_token_hash on refresh_token (token_hash);
+create index ix_refresh_token_expires_at on refresh_token (expires_at);
+
+create table revoked_token (
+    token_id   varchar(36) not null,
+    expires_at timestamp   not null,
+    member_id  bigint      not null,
+    revoked_at timestamp   not null,
+    primary key (token_id)
+);
+
+create index ix_revoked_token_revoked_at on revoked_token (revoked_at);
+create index ix_revoked_token_expires_at on revoked_token (expires_at);
@@ -0,0 +1,2 @@
+-- 다른 인스턴스에서 가입된 이메일을 created_date 로 주기적으로 가져온다
+create index ix_member_created_date on member (created_date);
@@ -1,12 +1,85 @@
 package com.example.tokenauth;
 
+import com.example.tokenauth.controller.MemberController;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.security.CompiledHandlerMethodExclusion;
+import com.example.tokenauth.utils.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.method.MethodSecurityMetadataSource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
+@AutoConfigureMockMvc
 class TokenAuthApplicationTests {
 
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MemberController memberController;
+
+    @Autowired
+    private MethodSecurityMetadataSource methodSecurityMetadataSource;
+
     @Test
     void contextLoads() {
     }
+
+    @Test
+    @DisplayName("@Timed 메서드 실행 시간 기록")
+    void timedMethodsAreRecorded() {
+        // when
+        jwtUtil.decodeToken(jwtUtil.encode(1L));
+
+        // then
+        assertTrue(meterRegistry.get("auth.jwt.decode").timer().count() >= 1);
+    }
+
+    @Test
+    @DisplayName("compiled 모드 - method security 는 켜 두고 컨트롤러만 프록시하지 않음")
+    void compiledAuthorizationKeepsMethodSecurity() {
+        // then
+        assertTrue(methodSecurityMetadataSource instanceof CompiledHandlerMethodExclusion);
+        assertFalse(AopUtils.isAopProxy(memberController));
+    }
+
+    @Test
+    @DisplayName("actuator - health 는 공개, metrics 는 관리자만 조회")
+    void metricsRequireAdmin() throws Exception {
+        // given
+        String userToken = jwtUtil.encode(1L, Collections.singletonList(RoleType.USER));
+        String adminToken = jwtUtil.encode(1L, Collections.singletonList(RoleType.ADMIN));
+
+        // when & then
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics/auth.errors")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
 }
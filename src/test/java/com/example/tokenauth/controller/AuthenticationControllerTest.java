@@ -1,53 +1,95 @@
 package com.example.tokenauth.controller;
 
 import com.example.tokenauth.domain.dto.LoginRequestData;
+import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.dto.RefreshRequestData;
+import com.example.tokenauth.domain.dto.RevokeRequestData;
 import com.example.tokenauth.domain.entity.Role;
 import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import com.example.tokenauth.errors.InvalidTokenException;
 import com.example.tokenauth.errors.LoginFailException;
 import com.example.tokenauth.service.AuthenticationService;
+import com.example.tokenauth.service.PasswordHashingExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthenticationController.class)
+@Import(SimpleMeterRegistry.class)
 class AuthenticationControllerTest {
 
     private static final String VALID_EMAIL = "test1234@gmail.com";
     private static final String VALID_PASSWORD = "test1234";
     private static final String VALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
             "eyJtZW1iZXJJZCI6MX0.vU91JPmJz_Kx_53C0i1p0i2NKEwTgMDOGtzMtx5UF4I";
+    private static final String REFRESH_TOKEN = "refresh-token";
 
 
     @Autowired
     private MockMvc mockMvc;
     @Autowired
     private ObjectMapper objectMapper;
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     @MockBean
     private AuthenticationService authenticationService;
 
+    @MockBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @BeforeEach
     void setUp() {
-        given(authenticationService.login(VALID_EMAIL, VALID_PASSWORD)).willReturn(VALID_TOKEN);
+        given(passwordHashingExecutor.submit(any())).will(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(task, Runnable::run);
+        });
+
+        given(authenticationService.login(VALID_EMAIL, VALID_PASSWORD)).willReturn(LoginResponseData.builder()
+                .accessToken(VALID_TOKEN)
+                .refreshToken(REFRESH_TOKEN)
+                .build());
         given(authenticationService.login("failTest@gmail.com", VALID_PASSWORD))
                 .willThrow(new LoginFailException("failTest@gmail.com"));
         given(authenticationService.login(VALID_EMAIL, "failTest"))
                 .willThrow(new LoginFailException(VALID_EMAIL));
+        given(authenticationService.refresh(REFRESH_TOKEN)).willReturn(LoginResponseData.builder()
+                .accessToken(VALID_TOKEN)
+                .refreshToken("rotated-refresh-token")
+                .build());
+        given(authenticationService.refresh("used-refresh-token"))
+                .willThrow(new InvalidRefreshTokenException());
+        willThrow(new InvalidTokenException("invalid")).given(authenticationService).revoke("invalid");
 
 
     }
@@ -60,13 +102,86 @@ class AuthenticationControllerTest {
                 .password(VALID_PASSWORD)
                 .build();
 
-        // when & then
-        mockMvc.perform(post("/api/authenticate")
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/authenticate")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequestData)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("accessToken").exists());
+                .andExpect(jsonPath("accessToken").exists())
+                .andExpect(jsonPath("refreshToken").value(REFRESH_TOKEN));
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 - 정상 입력")
+    void refresh_with_valid() throws Exception {
+        RefreshRequestData refreshRequestData = RefreshRequestData.builder()
+                .refreshToken(REFRESH_TOKEN)
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/authenticate/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequestData)))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("accessToken").value(VALID_TOKEN))
+                .andExpect(jsonPath("refreshToken").value("rotated-refresh-token"));
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 - 이미 사용된 refresh token")
+    void refresh_with_used() throws Exception {
+        RefreshRequestData refreshRequestData = RefreshRequestData.builder()
+                .refreshToken("used-refresh-token")
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/authenticate/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(refreshRequestData)))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("message").exists());
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 정상 입력")
+    void revoke_with_valid() throws Exception {
+        RevokeRequestData revokeRequestData = RevokeRequestData.builder()
+                .accessToken(VALID_TOKEN)
+                .build();
+
+        // when
+        mockMvc.perform(post("/api/authenticate/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(revokeRequestData)))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        // then
+        then(authenticationService).should().revoke(VALID_TOKEN);
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 유효하지 않은 토큰")
+    void revoke_with_invalid() throws Exception {
+        RevokeRequestData revokeRequestData = RevokeRequestData.builder()
+                .accessToken("invalid")
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/authenticate/revoke")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(revokeRequestData)))
+                .andDo(print())
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("message").exists());
     }
 
     @Test
@@ -78,10 +193,15 @@ class AuthenticationControllerTest {
                 .password(VALID_PASSWORD)
                 .build();
 
-        // when & then
-        mockMvc.perform(post("/api/authenticate")
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/authenticate")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(loginRequestData)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isUnauthorized());
     }
@@ -95,12 +215,62 @@ class AuthenticationControllerTest {
                 .password("failTest")
                 .build();
 
-        // when & then
-        mockMvc.perform(post("/api/authenticate")
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/authenticate")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginRequestData)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isUnauthorized());
     }
 
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("로그인 - 실패 횟수 기록")
+    void login_failure_counted() throws Exception {
+        // given
+        Counter loginFailures = meterRegistry.counter("auth.errors", "exception", "LoginFailException");
+        double before = loginFailures.count();
+
+        LoginRequestData loginRequestData = LoginRequestData.builder()
+                .email(VALID_EMAIL)
+                .password("failTest")
+                .build();
+
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequestData)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isUnauthorized());
+
+        // then
+        assertEquals(before + 1, loginFailures.count());
+    }
+
+    @Test
+    @DisplayName("로그인 - 해싱 대기열 초과")
+    void login_rejected_when_queue_is_full() throws Exception {
+        // given
+        willThrow(new RejectedExecutionException()).given(passwordHashingExecutor).submit(any());
+
+        LoginRequestData loginRequestData = LoginRequestData.builder()
+                .email(VALID_EMAIL)
+                .password(VALID_PASSWORD)
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/api/authenticate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(loginRequestData)))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("message").exists());
+    }
+}
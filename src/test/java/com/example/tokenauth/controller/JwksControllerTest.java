@@ -0,0 +1,48 @@
+package com.example.tokenauth.controller;
+
+import com.example.tokenauth.security.SigningKeyRing;
+import com.example.tokenauth.security.SigningKeyRingFixture;
+import com.example.tokenauth.service.AuthenticationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = JwksController.class, properties = {
+        "jwt.signing.algorithm=es256",
+        "jwt.signing.key-store=" + SigningKeyRingFixture.KEY_STORE,
+        "jwt.signing.key-store-password=" + SigningKeyRingFixture.KEY_STORE_PASSWORD
+})
+@Import({SigningKeyRing.class, SimpleMeterRegistry.class})
+class JwksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SigningKeyRing signingKeyRing;
+
+    @MockBean
+    private AuthenticationService authenticationService;
+
+    @Test
+    @DisplayName("JWKS 조회 - 인증 없이 캐시 가능한 공개키 목록")
+    void jwks() throws Exception {
+        // when & then
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andExpect(jsonPath("keys[0].kid").value(signingKeyRing.signingKey().getKid()))
+                .andExpect(jsonPath("keys[0].kty").value("EC"));
+    }
+}
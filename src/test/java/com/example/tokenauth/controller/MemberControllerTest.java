@@ -1,23 +1,34 @@
 package com.example.tokenauth.controller;
 
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData;
+import com.example.tokenauth.domain.dto.MemberCursorResponseData;
 import com.example.tokenauth.domain.dto.MemberModificationData;
 import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
 import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.domain.entity.Member;
 import com.example.tokenauth.domain.entity.Role;
 import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.errors.InvalidCursorException;
 import com.example.tokenauth.errors.InvalidTokenException;
 import com.example.tokenauth.errors.MemberEmailDuplicationException;
 import com.example.tokenauth.errors.MemberNotFoundException;
+import com.example.tokenauth.security.VerifiedToken;
 import com.example.tokenauth.service.AuthenticationService;
+import com.example.tokenauth.service.MemberBulkService;
+import com.example.tokenauth.service.MemberExportService;
 import com.example.tokenauth.service.MemberService;
+import com.example.tokenauth.service.PasswordHashingExecutor;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,26 +36,37 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(MemberController.class)
+@Import(SimpleMeterRegistry.class)
 class MemberControllerTest {
     private static final Long DELETED_USER_ID = 100L;
 
@@ -54,6 +76,8 @@ class MemberControllerTest {
             "eyJtZW1iZXJJZCI6MX0.vU91JPmJz_Kx_53C0i1p0i2NKEwTgMDOGtzMtx5UF4J";
     private static final String INVALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
             "eyJtZW1iZXJJZCI6MX0.vU91JPmJz_Kx_53C0i1p0i2NKEwTgMDOGtzMtx5UF40";
+    private static final String VALID_ADMIN_TOKEN_WITH_ROLES = "eyJhbGciOiJIUzI1NiJ9." +
+            "eyJtZW1iZXJJZCI6MTAwLCJyb2xlcyI6WyJBRE1JTiIsIlVTRVIiXX0.signature";
 
     @Autowired
     private MockMvc mockMvc;
@@ -64,11 +88,25 @@ class MemberControllerTest {
     @MockBean
     private MemberService memberService;
 
+    @MockBean
+    private MemberBulkService memberBulkService;
+
+    @MockBean
+    private MemberExportService memberExportService;
+
     @MockBean
     private AuthenticationService authenticationService;
 
+    @MockBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
+        given(passwordHashingExecutor.submit(any())).will(invocation -> {
+            Supplier<?> task = invocation.getArgument(0);
+            return CompletableFuture.supplyAsync(task, Runnable::run);
+        });
+
         given(memberService.signUp(any(MemberRequestSignUpData.class)))
                 .will(invocation -> {
                     MemberRequestSignUpData signUpData = invocation.getArgument(0);
@@ -82,6 +120,19 @@ class MemberControllerTest {
         given(memberService.isExistsEmail(anyString())).willReturn(true);
         given(memberService.isExistsEmail(anyString())).willReturn(true);
 
+        given(memberBulkService.signUpAll(anyList())).will(invocation -> {
+            List<MemberRequestSignUpData> signUpData = invocation.getArgument(0);
+            List<MemberBulkSignUpResultData> results = new ArrayList<>();
+            for (int i = 0; i < signUpData.size(); i++) {
+                results.add(MemberBulkSignUpResultData.builder()
+                        .index(i)
+                        .email(signUpData.get(i).getEmail())
+                        .status(MemberBulkSignUpResultData.Status.CREATED)
+                        .build());
+            }
+            return results;
+        });
+
         given(memberService.getMember(anyLong())).will(invocation -> {
             Long id = invocation.getArgument(0);
             if(id.equals(DELETED_USER_ID)) {
@@ -106,6 +157,21 @@ class MemberControllerTest {
             return new PageImpl<>(members);
         });
 
+        given(memberService.getMembersAfter(isNull(), anyInt())).willReturn(MemberCursorResponseData.builder()
+                .content(Collections.singletonList(MemberResponseData.builder()
+                        .email("test1@google.com")
+                        .nickname("test1")
+                        .build()))
+                .nextCursor("aWQ6MQ")
+                .build());
+        given(memberService.getMembersAfter(eq("invalid"), anyInt())).willThrow(new InvalidCursorException("invalid"));
+
+        given(memberExportService.export(any(OutputStream.class))).will(invocation -> {
+            OutputStream out = invocation.getArgument(0);
+            out.write("{\"email\":\"test1@google.com\",\"nickname\":\"test1\"}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+
         given(memberService.modify(eq(1L), any(MemberModificationData.class), eq(1L))).will(invocation -> {
             MemberModificationData argument = invocation.getArgument(1);
             return MemberResponseData.builder()
@@ -124,6 +190,12 @@ class MemberControllerTest {
 
         given(authenticationService.parseToken(INVALID_TOKEN)).willThrow(InvalidTokenException.class);
 
+        given(authenticationService.parseAccessToken(VALID_MEMBER_TOKEN)).willReturn(new VerifiedToken(1L, null));
+        given(authenticationService.parseAccessToken(VALID_ADMIN_TOKEN)).willReturn(new VerifiedToken(100L, null));
+        given(authenticationService.parseAccessToken(VALID_ADMIN_TOKEN_WITH_ROLES))
+                .willReturn(new VerifiedToken(100L, EnumSet.of(RoleType.ADMIN, RoleType.USER)));
+        given(authenticationService.parseAccessToken(INVALID_TOKEN)).willThrow(InvalidTokenException.class);
+
     }
 
     @Test
@@ -134,10 +206,15 @@ class MemberControllerTest {
                 .password("password")
                 .nickname("nickname")
                 .build();
-        // when & then
-        mockMvc.perform(post("/api/members")
+        // when
+        MvcResult mvcResult = mockMvc.perform(post("/api/members")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(data)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andDo(print())
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("email").exists());
@@ -162,6 +239,19 @@ class MemberControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @ParameterizedTest
+    @DisplayName("사용자 조회 실패 - Bearer 가 아닌 인증 헤더")
+    @ValueSource(strings = {"Basic dXNlcjpwYXNz", "Bearer", "Bearer "})
+    void getMember_with_other_scheme(String authorization) throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/members/{id}", 1)
+                        .header(HttpHeaders.AUTHORIZATION, authorization))
+                .andDo(print())
+                .andExpect(status().isUnauthorized());
+
+        then(authenticationService).should(never()).parseAccessToken(any());
+    }
+
     @Test
     @DisplayName("사용자 조회 성공 - 정상 입력 - 인가된 사용자")
     void getMember_valid_with_authorized() throws Exception {
@@ -219,6 +309,71 @@ class MemberControllerTest {
                 .andExpect(jsonPath("content").exists());
     }
 
+    @Test
+    @DisplayName("모든 사용자 조회 (페이징) 성공 - 권한이 담긴 토큰으로 조회")
+    void getMembers_valid_with_roles_in_token() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/members")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_ADMIN_TOKEN_WITH_ROLES))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content").exists());
+
+        then(authenticationService).should(never()).roles(100L);
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 성공 - 관리자 요청")
+    void export_valid() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/members/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_ADMIN_TOKEN))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("test1@google.com")));
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 실패 - 일반 회원 요청")
+    void export_invalid_member_access() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/members/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_MEMBER_TOKEN))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        then(memberExportService).should(never()).export(any(OutputStream.class));
+    }
+
+    @Test
+    @DisplayName("cursor 기반 사용자 조회 성공 - 관리자 조회")
+    void getMembersAfter_valid() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/members/cursor")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_ADMIN_TOKEN))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("content").exists())
+                .andExpect(jsonPath("nextCursor").value("aWQ6MQ"));
+    }
+
+    @Test
+    @DisplayName("cursor 기반 사용자 조회 실패 - 올바르지 않은 cursor")
+    void getMembersAfter_invalid_cursor() throws Exception {
+
+        // when & then
+        mockMvc.perform(get("/api/members/cursor")
+                        .param("cursor", "invalid")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_ADMIN_TOKEN))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("모든 사용자 조회 (페이징) 실패 - 일반 회원 조회")
     void getMembers_invalid_member_access() throws Exception {
@@ -230,6 +385,43 @@ class MemberControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @DisplayName("회원 일괄 가입 성공 - 관리자 요청")
+    void signUpAll_valid() throws Exception {
+        // given
+        List<MemberRequestSignUpData> signUpData = Arrays.asList(
+                new MemberRequestSignUpData("test1@gmail.com", "password1234", "test1"),
+                new MemberRequestSignUpData("test2@gmail.com", "password1234", "test2"));
+
+        // when & then
+        mockMvc.perform(post("/api/members/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signUpData))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_ADMIN_TOKEN))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[1].email").value("test2@gmail.com"))
+                .andExpect(jsonPath("$[1].status").value("CREATED"));
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 실패 - 일반 회원 요청")
+    void signUpAll_invalid_member_access() throws Exception {
+        // given
+        List<MemberRequestSignUpData> signUpData = Collections.singletonList(
+                new MemberRequestSignUpData("test1@gmail.com", "password1234", "test1"));
+
+        // when & then
+        mockMvc.perform(post("/api/members/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(signUpData))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + VALID_MEMBER_TOKEN))
+                .andDo(print())
+                .andExpect(status().isForbidden());
+
+        then(memberBulkService).should(never()).signUpAll(anyList());
+    }
+
     @Test
     @DisplayName("사용자 정보 수정 성공 - 정상 입력")
     void modify_valid() throws Exception {
@@ -0,0 +1,64 @@
+package com.example.tokenauth.domain.mapper;
+
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.entity.Member;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.modelmapper.ModelMapper;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberMapperTest {
+    private static final String EMAIL = "test1234@gmail.com";
+    private static final String NICKNAME = "James";
+    private static final String ENCODED_PASSWORD = "$2a$10$encoded";
+
+    static Stream<Arguments> mappers() {
+        return Stream.of(
+                Arguments.of(new DirectMemberMapper()),
+                Arguments.of(new ModelMapperMemberMapper(new ModelMapper()))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    @DisplayName("회원을 응답 데이터로 변환")
+    void toResponseData(MemberMapper memberMapper) {
+        // given
+        Member member = Member.builder()
+                .id(1L)
+                .email(EMAIL)
+                .nickname(NICKNAME)
+                .password(ENCODED_PASSWORD)
+                .build();
+
+        // when
+        MemberResponseData responseData = memberMapper.toResponseData(member);
+
+        // then
+        assertEquals(EMAIL, responseData.getEmail());
+        assertEquals(NICKNAME, responseData.getNickname());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    @DisplayName("회원가입 요청 데이터를 해싱된 비밀번호를 가진 회원으로 변환")
+    void toMember(MemberMapper memberMapper) {
+        // given
+        MemberRequestSignUpData signUpData = new MemberRequestSignUpData(EMAIL, "password1234", NICKNAME);
+
+        // when
+        Member member = memberMapper.toMember(signUpData, ENCODED_PASSWORD);
+
+        // then
+        assertNull(member.getId());
+        assertEquals(EMAIL, member.getEmail());
+        assertEquals(NICKNAME, member.getNickname());
+        assertEquals(ENCODED_PASSWORD, member.getPassword());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.tokenauth.domain.repository;
+
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import javax.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate 가 실행하려는 SQL 을 기록하여, 저장소 메서드가 실제로 만드는 쿼리의 실행 계획을 확인할 수 있게 한다.
+ */
+public class CapturedStatements implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.example.tokenauth.domain.repository.CapturedStatements";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * @return clear 이후 기록된 SQL 중 마지막 select 문
+     * @throws IllegalStateException 기록된 select 문이 없을 때
+     */
+    public static String lastSelect() {
+        List<String> statements = STATEMENTS.get();
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).trim().toLowerCase().startsWith("select")) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("기록된 select 문이 없습니다: " + statements);
+    }
+
+    /**
+     * 같은 트랜잭션의 커넥션으로 SQL 의 실행 계획을 조회한다.
+     *
+     * @param sql Hibernate 가 만든 SQL, 파라미터는 ? 로 표기되어 있다
+     * @param parameters 바인딩할 파라미터
+     * @return 실행 계획
+     */
+    public static String explain(EntityManager entityManager, String sql, Object... parameters) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                for (int i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+}
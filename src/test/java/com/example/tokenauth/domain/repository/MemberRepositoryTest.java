@@ -1,24 +1,35 @@
 package com.example.tokenauth.domain.repository;
 
+import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.domain.entity.Member;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.annotation.Rollback;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturedStatements.PROPERTY)
 @Transactional
 class MemberRepositoryTest {
 
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @DisplayName("Member 생성")
@@ -90,4 +101,114 @@ class MemberRepositoryTest {
         // then
         assertTrue(isExists);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("모든 이메일 스트리밍")
+    void streamAllEmails() {
+        // given
+        String email = "stream123@gmail.com";
+
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password("password123")
+                .nickname("stream")
+                .build());
+
+        // when
+        List<String> emails;
+        try (Stream<String> stream = memberRepository.streamAllEmails()) {
+            emails = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertTrue(emails.contains(email));
+    }
+
+    @Test
+    @DisplayName("모든 회원을 DTO 로 스트리밍")
+    void streamAllMembers() {
+        // given
+        String email = "export123@gmail.com";
+
+        memberRepository.save(Member.builder()
+                .email(email)
+                .password("password123")
+                .nickname("export")
+                .build());
+
+        // when
+        List<MemberResponseData> members;
+        try (Stream<MemberResponseData> stream = memberRepository.streamAllMembers()) {
+            members = stream.collect(Collectors.toList());
+        }
+
+        // then
+        assertTrue(members.stream().anyMatch(member ->
+                email.equals(member.getEmail()) && "export".equals(member.getNickname())));
+    }
+
+    @Test
+    @DisplayName("ID 이후의 회원을 Slice 로 조회")
+    void findByIdGreaterThan() {
+        // given
+        List<Member> members = memberRepository.saveAll(Stream.of("a", "b", "c")
+                .map(name -> Member.builder()
+                        .email(name + "cursor@gmail.com")
+                        .password("password123")
+                        .nickname(name)
+                        .build())
+                .collect(Collectors.toList()));
+        Long before = members.get(0).getId() - 1;
+
+        // when
+        Slice<Member> slice = memberRepository.findByIdGreaterThanOrderByIdAsc(before, PageRequest.of(0, 2));
+
+        // then
+        assertEquals(2, slice.getNumberOfElements());
+        assertTrue(slice.hasNext());
+        assertEquals(members.get(0).getId(), slice.getContent().get(0).getId());
+        assertEquals(members.get(1).getId(), slice.getContent().get(1).getId());
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 저장 - unique 인덱스 위반")
+    void save_duplicated_email() {
+        // given
+        String email = "unique123@gmail.com";
+
+        memberRepository.saveAndFlush(Member.builder()
+                .email(email)
+                .password("password123")
+                .nickname("first")
+                .build());
+
+        // when
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> memberRepository.saveAndFlush(Member.builder()
+                        .email(email)
+                        .password("password123")
+                        .nickname("second")
+                        .build()));
+
+        // then
+        assertTrue(exception.getCause() instanceof ConstraintViolationException);
+        ConstraintViolationException cause = (ConstraintViolationException) exception.getCause();
+        assertTrue(cause.getConstraintName().toLowerCase().contains(Member.EMAIL_UNIQUE_INDEX), cause.getConstraintName());
+    }
+
+    @Test
+    @DisplayName("이메일로 조회 실행 계획 - unique 인덱스 사용")
+    void findByEmail_uses_index() {
+        // given
+        String email = "plan123@gmail.com";
+        CapturedStatements.clear();
+        memberRepository.findByEmail(email);
+
+        // when
+        String sql = CapturedStatements.lastSelect();
+        String plan = CapturedStatements.explain(entityManager, sql, email);
+
+        // then
+        assertTrue(plan.toLowerCase().contains(Member.EMAIL_UNIQUE_INDEX), sql + "\n" + plan);
+    }
+}
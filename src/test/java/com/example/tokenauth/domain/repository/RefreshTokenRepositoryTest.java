@@ -0,0 +1,61 @@
+package com.example.tokenauth.domain.repository;
+
+import com.example.tokenauth.domain.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+@Transactional
+class RefreshTokenRepositoryTest {
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Test
+    @DisplayName("해시로 조회 후 삭제 - 두 번째 삭제는 0건")
+    void removeById_once() {
+        // given
+        RefreshToken saved = refreshTokenRepository.save(
+                new RefreshToken(1L, "hash", LocalDateTime.now().plusDays(1)));
+
+        // when
+        RefreshToken found = refreshTokenRepository.findByTokenHash("hash").orElseThrow();
+        int first = refreshTokenRepository.removeById(found.getId());
+        int second = refreshTokenRepository.removeById(found.getId());
+
+        // then
+        assertEquals(saved.getId(), found.getId());
+        assertEquals(1, first);
+        assertEquals(0, second);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 ID 조회 - batch 크기만큼")
+    void findExpiredIds() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            refreshTokenRepository.save(new RefreshToken(1L, "expired" + i, now.minusMinutes(i + 1)));
+        }
+        refreshTokenRepository.save(new RefreshToken(1L, "alive", now.plusDays(1)));
+
+        // when
+        List<Long> firstBatch = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 2));
+        int deleted = refreshTokenRepository.removeAllByIdIn(firstBatch);
+        List<Long> secondBatch = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 2));
+
+        // then
+        assertEquals(2, deleted);
+        assertEquals(1, secondBatch.size());
+        assertTrue(refreshTokenRepository.findByTokenHash("alive").isPresent());
+    }
+}
@@ -10,12 +10,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturedStatements.PROPERTY)
 @Transactional
 class RoleRepositoryTest {
     
@@ -23,6 +24,8 @@ class RoleRepositoryTest {
     private RoleRepository roleRepository;
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private EntityManager entityManager;
 
     @Test
     @DisplayName("회원 저장시 Role 저장")
@@ -45,4 +48,19 @@ class RoleRepositoryTest {
         assertEquals(savedRole.getRoleType(), RoleType.USER);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("회원 ID 로 Role 조회 실행 계획 - member_id 인덱스 사용")
+    void findAllByMemberId_uses_index() {
+        // given
+        Long memberId = 1L;
+        CapturedStatements.clear();
+        roleRepository.findAllByMemberId(memberId);
+
+        // when
+        String sql = CapturedStatements.lastSelect();
+        String plan = CapturedStatements.explain(entityManager, sql, memberId);
+
+        // then
+        assertTrue(plan.toLowerCase().contains("ix_role_member_id"), sql + "\n" + plan);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.tokenauth.reactive;
+
+import com.example.tokenauth.domain.dto.LoginRequestData;
+import com.example.tokenauth.domain.dto.LoginResponseData;
+import com.example.tokenauth.domain.dto.MemberModificationData;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.dto.RefreshRequestData;
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.service.RoleCache;
+import com.example.tokenauth.utils.JwtUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.Collections;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.datasource.url=jdbc:h2:mem:reactive",
+        "reactive.r2dbc.url=r2dbc:h2:mem:///reactive"
+})
+class ReactiveApplicationTests {
+
+    private static final String PASSWORD = "test1234";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private RoleCache roleCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    @DisplayName("회원가입 후 로그인한 토큰으로 본인 조회와 수정")
+    void signUp_login_getMember_modify() {
+        // given
+        String accessToken = signUpAndLogin("reactive1@test.com").getAccessToken();
+        Long memberId = jwtUtil.decodeMemberId(accessToken);
+
+        // when & then
+        webTestClient.get().uri("/api/members/{id}", memberId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("email").isEqualTo("reactive1@test.com");
+
+        webTestClient.patch().uri("/api/members/{id}", memberId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .bodyValue(MemberModificationData.builder().nickname("changed").build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("nickname").isEqualTo("changed");
+    }
+
+    @Test
+    @DisplayName("중복 이메일 회원가입 - 409")
+    void signUp_duplicated() {
+        // given
+        signUp("reactive2@test.com");
+
+        // when & then
+        webTestClient.post().uri("/api/members")
+                .bodyValue(signUpData("reactive2@test.com"))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("message").exists();
+    }
+
+    @Test
+    @DisplayName("회원가입 - 형식 오류 400")
+    void signUp_invalid() {
+        webTestClient.post().uri("/api/members")
+                .bodyValue(MemberRequestSignUpData.builder()
+                        .email("not-an-email")
+                        .password(PASSWORD)
+                        .nickname("nick")
+                        .build())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("message").exists();
+    }
+
+    @Test
+    @DisplayName("로그인 - 비밀번호 오류 401")
+    void login_invalid_password() {
+        signUp("reactive3@test.com");
+
+        webTestClient.post().uri("/api/authenticate")
+                .bodyValue(LoginRequestData.builder().email("reactive3@test.com").password("wrong-password").build())
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("권한 없는 요청 - 403, 유효하지 않은 토큰 - 401")
+    void unauthorized_and_forbidden() {
+        String accessToken = signUpAndLogin("reactive4@test.com").getAccessToken();
+
+        webTestClient.get().uri("/api/members")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/api/members/1")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/api/members/1")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer invalid.token.value")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 후 이전 refresh token 재사용 - 401")
+    void refresh_rotates() {
+        LoginResponseData login = signUpAndLogin("reactive5@test.com");
+
+        webTestClient.post().uri("/api/authenticate/refresh")
+                .bodyValue(new RefreshRequestData(login.getRefreshToken()))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("accessToken").exists();
+
+        webTestClient.post().uri("/api/authenticate/refresh")
+                .bodyValue(new RefreshRequestData(login.getRefreshToken()))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @DisplayName("관리자 - NDJSON 내보내기")
+    void export_as_admin() {
+        // given
+        String userToken = signUpAndLogin("reactive6@test.com").getAccessToken();
+        Long memberId = jwtUtil.decodeMemberId(userToken);
+        roleRepository.save(new Role(memberId, RoleType.ADMIN));
+        roleCache.evict(new RoleChangedEvent(memberId));
+        String adminToken = login("reactive6@test.com").getAccessToken();
+
+        // when
+        String body = webTestClient.get().uri("/api/members/export")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .accept(MediaType.parseMediaType("application/x-ndjson"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        // then
+        assertTrue(Objects.requireNonNull(body).contains("\"email\":\"reactive6@test.com\""));
+    }
+
+    @Test
+    @DisplayName("권한이 담기지 않은 토큰 - 저장소에서 권한을 조회하여 본인 조회")
+    void getMember_with_token_without_roles() {
+        // given
+        signUp("reactive7@test.com");
+        Long memberId = jwtUtil.decodeMemberId(login("reactive7@test.com").getAccessToken());
+        String accessToken = jwtUtil.encode(memberId);
+
+        // when & then
+        webTestClient.get().uri("/api/members/{id}", memberId)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("email").isEqualTo("reactive7@test.com");
+    }
+
+    @Test
+    @DisplayName("숫자가 아닌 page, size, id - 400")
+    void invalid_number_parameters() {
+        // given
+        String userToken = signUpAndLogin("reactive8@test.com").getAccessToken();
+        Long memberId = jwtUtil.decodeMemberId(userToken);
+        roleRepository.save(new Role(memberId, RoleType.ADMIN));
+        roleCache.evict(new RoleChangedEvent(memberId));
+        String adminToken = login("reactive8@test.com").getAccessToken();
+
+        // when & then
+        webTestClient.get().uri("/api/members?page=abc")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("message").exists();
+
+        webTestClient.get().uri("/api/members/cursor?size=abc")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/api/members/abc")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    @DisplayName("actuator - health 는 공개, metrics 는 관리자만 조회")
+    void metrics_require_admin() {
+        String adminToken = jwtUtil.encode(1L, Collections.singletonList(RoleType.ADMIN));
+
+        webTestClient.get().uri("/actuator/health")
+                .exchange()
+                .expectStatus().isOk();
+
+        webTestClient.get().uri("/actuator/metrics")
+                .exchange()
+                .expectStatus().isForbidden();
+
+        webTestClient.get().uri("/actuator/metrics")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    private LoginResponseData signUpAndLogin(String email) {
+        signUp(email);
+        return login(email);
+    }
+
+    private void signUp(String email) {
+        webTestClient.post().uri("/api/members")
+                .bodyValue(signUpData(email))
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    private LoginResponseData login(String email) {
+        return webTestClient.post().uri("/api/authenticate")
+                .bodyValue(LoginRequestData.builder().email(email).password(PASSWORD).build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(LoginResponseData.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private static MemberRequestSignUpData signUpData(String email) {
+        return MemberRequestSignUpData.builder()
+                .email(email)
+                .password(PASSWORD)
+                .nickname("nick")
+                .build();
+    }
+}
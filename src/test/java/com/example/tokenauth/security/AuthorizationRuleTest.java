@@ -0,0 +1,87 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.domain.entity.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuthorizationRuleTest {
+
+    private static final String USER_OR_ADMIN = "isAuthenticated() and hasAnyAuthority('USER', 'ADMIN')";
+    private static final String ADMIN = "isAuthenticated() and hasAnyAuthority('ADMIN')";
+
+    @Test
+    @DisplayName("권한 중 하나를 가진 사용자 - 허용")
+    void permits_any_authority() {
+        // given
+        AuthorizationRule rule = AuthorizationRule.compile(USER_OR_ADMIN);
+
+        // when & then
+        assertTrue(rule.permits(new MemberAuthentication(1L, EnumSet.of(RoleType.USER))));
+        assertTrue(rule.permits(new MemberAuthentication(1L, EnumSet.of(RoleType.ADMIN))));
+    }
+
+    @Test
+    @DisplayName("필요한 권한이 없는 사용자 - 거부")
+    void permits_missing_authority() {
+        // given
+        AuthorizationRule rule = AuthorizationRule.compile(ADMIN);
+
+        // when & then
+        assertFalse(rule.permits(new MemberAuthentication(1L, EnumSet.of(RoleType.USER))));
+        assertFalse(rule.permits(new MemberAuthentication(1L, EnumSet.noneOf(RoleType.class))));
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 사용자 - 거부")
+    void permits_anonymous() {
+        // given
+        AuthorizationRule rule = AuthorizationRule.compile(USER_OR_ADMIN);
+        AnonymousAuthenticationToken anonymous = new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("USER"));
+
+        // when & then
+        assertFalse(rule.permits(anonymous));
+        assertFalse(rule.permits(null));
+    }
+
+    @Test
+    @DisplayName("and 로 연결된 권한 조건 - 모두 만족해야 허용")
+    void permits_all_terms() {
+        // given
+        AuthorizationRule rule = AuthorizationRule.compile("hasAuthority('USER') and hasAuthority('ADMIN')");
+
+        // when & then
+        assertFalse(rule.permits(new MemberAuthentication(1L, EnumSet.of(RoleType.USER))));
+        assertTrue(rule.permits(new MemberAuthentication(1L, EnumSet.of(RoleType.USER, RoleType.ADMIN))));
+    }
+
+    @Test
+    @DisplayName("다른 인증 구현 - 권한 이름으로 확인")
+    void permits_other_authentication() {
+        // given
+        AuthorizationRule rule = AuthorizationRule.compile("isAuthenticated() and hasAnyAuthority('ADMIN', 'AUDITOR')");
+
+        // when & then
+        assertTrue(rule.permits(new UsernamePasswordAuthenticationToken("auditor", null,
+                AuthorityUtils.createAuthorityList("AUDITOR"))));
+        assertFalse(rule.permits(new UsernamePasswordAuthenticationToken("user", null,
+                AuthorityUtils.createAuthorityList("USER"))));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 표현식 - IllegalArgumentException")
+    void compile_unsupported() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> AuthorizationRule.compile("hasRole('ADMIN') or #id == principal"));
+        assertThrows(IllegalArgumentException.class,
+                () -> AuthorizationRule.compile("hasAuthority('USER', 'ADMIN')"));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.errors.InvalidTokenException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BearerTokenTest {
+
+    @Test
+    @DisplayName("Bearer 토큰 추출 - scheme 대소문자 무시")
+    void extract() {
+        assertEquals("token", BearerToken.extract("Bearer token"));
+        assertEquals("token", BearerToken.extract("bearer token"));
+    }
+
+    @ParameterizedTest
+    @DisplayName("Bearer 가 아닌 헤더 - 예외 메시지에 헤더 값을 남기지 않음")
+    @ValueSource(strings = {"Basic dXNlcjpwYXNzd29yZA==", "Bearer ", "dXNlcjpwYXNzd29yZA=="})
+    void extract_other_scheme(String authorization) {
+        // when
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class,
+                () -> BearerToken.extract(authorization));
+
+        // then
+        assertFalse(exception.getMessage().contains("dXNlcjpwYXNzd29yZA=="));
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.tokenauth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedPasswordEncoderTest {
+
+    private static final String PASSWORD = "password123";
+
+    @Test
+    @DisplayName("비용 측정 - 최소, 최대 비용 사이")
+    void calibrate_within_bounds() {
+        // when
+        CalibratedPasswordEncoder passwordEncoder =
+                CalibratedPasswordEncoder.calibrate(Duration.ofMillis(50), 4, 6);
+
+        // then
+        assertTrue(passwordEncoder.getStrength() >= 4);
+        assertTrue(passwordEncoder.getStrength() <= 6);
+    }
+
+    @Test
+    @DisplayName("비용 측정 - 지연 시간이 부족해도 최소 비용 보장")
+    void calibrate_keeps_min_strength() {
+        // when
+        CalibratedPasswordEncoder passwordEncoder =
+                CalibratedPasswordEncoder.calibrate(Duration.ZERO, 5, 8);
+
+        // then
+        assertEquals(5, passwordEncoder.getStrength());
+    }
+
+    @Test
+    @DisplayName("재해싱 판단 - 비용이 다른 해시")
+    void upgradeEncoding_with_different_strength() {
+        // given
+        CalibratedPasswordEncoder passwordEncoder = new CalibratedPasswordEncoder(5);
+
+        // when & then
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        assertTrue(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode(PASSWORD)));
+        assertFalse(passwordEncoder.upgradeEncoding(passwordEncoder.encode(PASSWORD)));
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증 - 비용이 다른 해시")
+    void matches_with_different_strength() {
+        // given
+        CalibratedPasswordEncoder passwordEncoder = new CalibratedPasswordEncoder(5);
+
+        // when & then
+        assertTrue(passwordEncoder.matches(PASSWORD, new BCryptPasswordEncoder(4).encode(PASSWORD)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.tokenauth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.expression.method.ExpressionBasedAnnotationAttributeFactory;
+import org.springframework.security.access.prepost.PostAuthorize;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.access.prepost.PrePostAnnotationSecurityMetadataSource;
+import org.springframework.stereotype.Service;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledHandlerMethodExclusionTest {
+
+    private static final String ADMIN = "isAuthenticated() and hasAnyAuthority('ADMIN')";
+
+    private final CompiledHandlerMethodExclusion metadataSource = new CompiledHandlerMethodExclusion(
+            new PrePostAnnotationSecurityMetadataSource(
+                    new ExpressionBasedAnnotationAttributeFactory(new DefaultMethodSecurityExpressionHandler())));
+
+    @Test
+    @DisplayName("@PreAuthorize 만 붙은 handler method - 제외")
+    void excludes_compiled_handler_method() throws NoSuchMethodException {
+        // given
+        Method method = AdminController.class.getMethod("preAuthorized");
+
+        // when & then
+        assertTrue(metadataSource.getAttributes(method, AdminController.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("@PostAuthorize 가 붙은 handler method - method security 가 확인")
+    void keeps_post_authorized_handler_method() throws NoSuchMethodException {
+        // given
+        Method method = AdminController.class.getMethod("postAuthorized");
+
+        // when & then
+        assertFalse(metadataSource.getAttributes(method, AdminController.class).isEmpty());
+    }
+
+    @Test
+    @DisplayName("handler method 가 아닌 빈의 @PreAuthorize - method security 가 확인")
+    void keeps_non_handler_bean() throws NoSuchMethodException {
+        // given
+        Method method = AdminService.class.getMethod("preAuthorized");
+
+        // when & then
+        assertFalse(metadataSource.getAttributes(method, AdminService.class).isEmpty());
+    }
+
+    @RestController
+    static class AdminController {
+
+        @GetMapping("/pre")
+        @PreAuthorize(ADMIN)
+        public String preAuthorized() {
+            return "pre";
+        }
+
+        @GetMapping("/post")
+        @PostAuthorize(ADMIN)
+        public String postAuthorized() {
+            return "post";
+        }
+    }
+
+    @Service
+    static class AdminService {
+
+        @PreAuthorize(ADMIN)
+        public String preAuthorized() {
+            return "pre";
+        }
+    }
+}
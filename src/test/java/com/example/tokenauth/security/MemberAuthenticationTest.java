@@ -0,0 +1,56 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberAuthenticationTest {
+
+    @Test
+    @DisplayName("같은 권한 조합 - 권한 목록 공유")
+    void getAuthorities_shared() {
+        // given
+        MemberAuthentication fromRoleTypes = new MemberAuthentication(1L, EnumSet.of(RoleType.USER, RoleType.ADMIN));
+        MemberAuthentication fromRoles = new MemberAuthentication(2L,
+                Arrays.asList(new Role(RoleType.USER), new Role(RoleType.ADMIN)));
+
+        // when & then
+        assertSame(fromRoleTypes.getAuthorities(), fromRoles.getAuthorities());
+        assertEquals(Arrays.asList("ADMIN", "USER"), fromRoles.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        assertThrows(UnsupportedOperationException.class, () -> fromRoles.getAuthorities().clear());
+    }
+
+    @Test
+    @DisplayName("권한 mask - RoleType 비트의 조합")
+    void getRoleMask() {
+        // given
+        MemberAuthentication authentication = new MemberAuthentication(1L, EnumSet.of(RoleType.USER));
+
+        // when & then
+        assertEquals(RoleType.USER.mask(), authentication.getRoleMask());
+        assertEquals(0, new MemberAuthentication(1L, EnumSet.noneOf(RoleType.class)).getRoleMask());
+        assertTrue(new MemberAuthentication(1L, EnumSet.noneOf(RoleType.class)).getAuthorities().isEmpty());
+    }
+
+    @Test
+    @DisplayName("권한 조합이 다른 인증 정보 - 같지 않음")
+    void equals_by_role_mask() {
+        // given
+        MemberAuthentication user = new MemberAuthentication(1L, EnumSet.of(RoleType.USER));
+        MemberAuthentication admin = new MemberAuthentication(1L, EnumSet.of(RoleType.ADMIN));
+
+        // when & then
+        assertNotEquals(user, admin);
+        assertEquals(user, new MemberAuthentication(1L, EnumSet.of(RoleType.USER)));
+    }
+}
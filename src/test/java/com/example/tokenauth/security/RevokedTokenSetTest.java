@@ -0,0 +1,45 @@
+package com.example.tokenauth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevokedTokenSetTest {
+
+    private static final long NOW = 1_700_000_000L;
+
+    @Test
+    @DisplayName("추가한 토큰만 포함")
+    void contains() {
+        // given
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1000, 0.01);
+
+        // when
+        revokedTokens.add("revoked", NOW + 60);
+
+        // then
+        assertTrue(revokedTokens.contains("revoked"));
+        for (int i = 0; i < 10_000; i++) {
+            assertFalse(revokedTokens.contains("token-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("prune - 만료된 토큰만 제거")
+    void prune() {
+        // given
+        RevokedTokenSet revokedTokens = new RevokedTokenSet(1000, 0.01);
+        revokedTokens.add("expired", NOW - 1);
+        revokedTokens.add("alive", NOW + 60);
+
+        // when
+        int pruned = revokedTokens.prune(NOW);
+
+        // then
+        assertEquals(1, pruned);
+        assertEquals(1, revokedTokens.size());
+        assertFalse(revokedTokens.contains("expired"));
+        assertTrue(revokedTokens.contains("alive"));
+    }
+}
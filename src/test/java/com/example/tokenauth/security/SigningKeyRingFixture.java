@@ -0,0 +1,24 @@
+package com.example.tokenauth.security;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.time.Instant;
+
+/**
+ * 테스트용 키 저장소 security/signing-keys.p12 로 만든 SigningKeyRing.
+ * 저장소에는 notBefore 가 2020, 2021, 2022, 2099 년 1월 1일인 P-256 키가 하나씩 들어 있다.
+ */
+public class SigningKeyRingFixture {
+
+    public static final String KEY_STORE = "classpath:security/signing-keys.p12";
+    public static final String KEY_STORE_PASSWORD = "changeit";
+
+    public static SigningKeyRing keyRing(int retainedKeys) {
+        return keyRing(retainedKeys, Instant.parse("2021-06-01T00:00:00Z"));
+    }
+
+    public static SigningKeyRing keyRing(int retainedKeys, Instant now) {
+        return new SigningKeyRing(new ClassPathResource("security/signing-keys.p12"),
+                KEY_STORE_PASSWORD, retainedKeys, now);
+    }
+}
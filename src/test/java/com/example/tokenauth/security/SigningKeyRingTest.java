@@ -0,0 +1,112 @@
+package com.example.tokenauth.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.example.tokenauth.security.SigningKeyRingFixture.keyRing;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigningKeyRingTest {
+
+    private static final Instant YEAR_2020 = Instant.parse("2020-06-01T00:00:00Z");
+    private static final Instant YEAR_2022 = Instant.parse("2022-06-01T00:00:00Z");
+
+    @Test
+    @DisplayName("JWKS - 서명 키와 활성화 전 키를 미리 공개")
+    void jwks_publishes_upcoming_key() {
+        // given
+        SigningKeyRing keyRing = keyRing(2);
+        String current = keyRing.signingKey().getKid();
+
+        // when
+        List<String> kids = kids(keyRing);
+        keyRing.refresh(YEAR_2022);
+
+        // then
+        assertEquals(4, kids.size());
+        assertEquals(current, kids.get(0));
+        assertEquals(kids.get(1), keyRing.signingKey().getKid());
+    }
+
+    @Test
+    @DisplayName("같은 키 저장소 - 노드마다 같은 kid 로 서명")
+    void same_key_store_same_kid() {
+        // when
+        SigningKeyRing node = keyRing(2);
+        SigningKeyRing otherNode = keyRing(2);
+
+        // then
+        assertEquals(node.signingKey().getKid(), otherNode.signingKey().getKid());
+        assertEquals(kids(node), kids(otherNode));
+    }
+
+    @Test
+    @DisplayName("키 교체 - 이전 서명 키는 검증용으로 유지")
+    void refresh_keeps_previous_key() {
+        // given
+        SigningKeyRing keyRing = keyRing(2);
+        String previous = keyRing.signingKey().getKid();
+
+        // when
+        keyRing.refresh(YEAR_2022);
+
+        // then
+        assertNotEquals(previous, keyRing.signingKey().getKid());
+        assertNotNull(keyRing.verificationKey(previous));
+        assertTrue(kids(keyRing).contains(previous));
+    }
+
+    @Test
+    @DisplayName("키 교체 - 보관 개수를 넘은 키는 제거")
+    void refresh_removes_old_keys() {
+        // given
+        SigningKeyRing keyRing = keyRing(1);
+        String oldest = keyRing(1, YEAR_2020).signingKey().getKid();
+
+        // when
+        keyRing.refresh(YEAR_2022);
+
+        // then
+        assertNull(keyRing.verificationKey(oldest));
+        assertEquals(3, kids(keyRing).size());
+    }
+
+    @Test
+    @DisplayName("활성화된 키가 없는 키 저장소")
+    void no_active_key() {
+        assertThrows(IllegalStateException.class, () -> keyRing(2, Instant.parse("2019-06-01T00:00:00Z")));
+    }
+
+    @Test
+    @DisplayName("JWK - P-256 공개키 좌표")
+    void jwk_contains_coordinates() {
+        // given
+        SigningKeyRing keyRing = keyRing(2);
+
+        // when
+        Map<String, Object> jwk = keys(keyRing).get(0);
+
+        // then
+        assertEquals("EC", jwk.get("kty"));
+        assertEquals("P-256", jwk.get("crv"));
+        assertEquals("ES256", jwk.get("alg"));
+        assertEquals(43, ((String) jwk.get("x")).length());
+        assertEquals(43, ((String) jwk.get("y")).length());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> keys(SigningKeyRing keyRing) {
+        return (List<Map<String, Object>>) keyRing.jwks().get("keys");
+    }
+
+    private static List<String> kids(SigningKeyRing keyRing) {
+        return keys(keyRing).stream()
+                .map(jwk -> (String) jwk.get("kid"))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.tokenauth.security;
+
+import com.example.tokenauth.errors.InvalidTokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final String TOKEN = "eyJhbGciOiJIUzI1NiJ9." +
+            "eyJtZW1iZXJJZCI6MX0.vU91JPmJz_Kx_53C0i1p0i2NKEwTgMDOGtzMtx5UF4I";
+    private static final Long MEMBER_ID = 1L;
+
+    private AtomicInteger verifications;
+    private Function<String, VerifiedToken> verifier;
+
+    @BeforeEach
+    void setUp() {
+        verifications = new AtomicInteger();
+        verifier = token -> {
+            verifications.incrementAndGet();
+            if(!TOKEN.equals(token)) {
+                throw new InvalidTokenException(token);
+            }
+            return new VerifiedToken(MEMBER_ID, null);
+        };
+    }
+
+    @Test
+    @DisplayName("캐시 적중 - 검증 생략")
+    void get_hit() {
+        // given
+        VerifiedTokenCache cache = cache(true);
+
+        // when
+        cache.get(TOKEN, verifier);
+        VerifiedToken verifiedToken = cache.get(TOKEN, verifier);
+
+        // then
+        assertEquals(MEMBER_ID, verifiedToken.getMemberId());
+        assertEquals(1, verifications.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("검증 실패 - 캐시하지 않음")
+    void get_invalid_not_cached() {
+        // given
+        VerifiedTokenCache cache = cache(true);
+
+        // when
+        assertThrows(InvalidTokenException.class, () -> cache.get("invalid", verifier));
+        assertThrows(InvalidTokenException.class, () -> cache.get("invalid", verifier));
+
+        // then
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 캐시하지 않고 다시 검증")
+    void get_expired_not_cached() {
+        // given
+        VerifiedTokenCache cache = cache(true);
+        long expiredAt = System.currentTimeMillis() / 1000 - 1;
+        Function<String, VerifiedToken> expiringVerifier = token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken(MEMBER_ID, null, "jti", expiredAt);
+        };
+
+        // when
+        cache.get(TOKEN, expiringVerifier);
+        cache.get(TOKEN, expiringVerifier);
+
+        // then
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 - 매번 검증")
+    void get_disabled() {
+        // given
+        VerifiedTokenCache cache = cache(false);
+
+        // when
+        cache.get(TOKEN, verifier);
+        cache.get(TOKEN, verifier);
+
+        // then
+        assertEquals(2, verifications.get());
+    }
+
+    private VerifiedTokenCache cache(boolean enabled) {
+        return new VerifiedTokenCache(enabled, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+}
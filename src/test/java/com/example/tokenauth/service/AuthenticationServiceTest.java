@@ -1,27 +1,41 @@
 package com.example.tokenauth.service;
 
+import com.example.tokenauth.domain.dto.LoginResponseData;
 import com.example.tokenauth.domain.entity.Member;
 import com.example.tokenauth.domain.entity.Role;
 import com.example.tokenauth.domain.entity.RoleType;
 import com.example.tokenauth.domain.repository.MemberRepository;
+import com.example.tokenauth.domain.repository.RevokedTokenRepository;
 import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
 import com.example.tokenauth.errors.InvalidTokenException;
 import com.example.tokenauth.errors.LoginFailException;
+import com.example.tokenauth.security.CalibratedPasswordEncoder;
+import com.example.tokenauth.security.SigningKeyRing;
+import com.example.tokenauth.security.VerifiedToken;
+import com.example.tokenauth.security.VerifiedTokenCache;
 import com.example.tokenauth.utils.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 
 class AuthenticationServiceTest {
 
@@ -35,6 +49,9 @@ class AuthenticationServiceTest {
     private static final String INVALID_TOKEN = "eyJhbGciOiJIUzI1NiJ9.eyJtZW1iZXJJZCI6MX0." +
             "vU91JPmJz_Kx_53C0i1p0i2NKEwTgMDOGtzMtx5UF2I";
 
+    private static final String REFRESH_TOKEN = "refresh-token";
+    private static final String USED_REFRESH_TOKEN = "used-refresh-token";
+
     private static final Long MEMBER_ID = 1L;
     private static final Long ADMIN_ID = 100L;
 
@@ -43,15 +60,24 @@ class AuthenticationServiceTest {
 
     private final MemberRepository memberRepository = mock(MemberRepository.class);
     private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final RefreshTokenService refreshTokenService = mock(RefreshTokenService.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
 
     @BeforeEach
     void setUp() {
         JwtUtil jwtUtil = new JwtUtil(SECRET);
         PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(true, 100,
+                Duration.ofMinutes(1), new SimpleMeterRegistry());
         authenticationService = new AuthenticationService(memberRepository,
                                                             roleRepository,
                 jwtUtil,
-                passwordEncoder);
+                passwordEncoder,
+                verifiedTokenCache,
+                new RoleCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                refreshTokenService,
+                tokenRevocationService,
+                false);
 
         Member member = Member.builder()
                 .id(1L)
@@ -67,16 +93,74 @@ class AuthenticationServiceTest {
                 .willReturn(Collections.singletonList(new Role(RoleType.USER)));
         given(roleRepository.findAllByMemberId(ADMIN_ID))
                 .willReturn(Arrays.asList(new Role(RoleType.ADMIN), new Role(RoleType.USER)));
+        given(refreshTokenService.issue(MEMBER_ID)).willReturn(REFRESH_TOKEN);
+        given(refreshTokenService.consume(REFRESH_TOKEN)).willReturn(MEMBER_ID);
+        given(refreshTokenService.consume(USED_REFRESH_TOKEN)).willThrow(new InvalidRefreshTokenException());
     }
 
     @Test
     @DisplayName("로그인 - 정상 입력")
     void login_with_valid() {
         // when
-        String accessToken = authenticationService.login(VALID_EMAIL, VALID_PASSWORD);
+        LoginResponseData loginResponseData = authenticationService.login(VALID_EMAIL, VALID_PASSWORD);
+
+        // then
+        assertEquals(loginResponseData.getAccessToken(), VALID_TOKEN);
+        assertEquals(loginResponseData.getRefreshToken(), REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("로그인 - 정상 입력: 토큰에 권한 포함")
+    void login_with_valid_embed_roles() {
+        // given
+        AuthenticationService embeddingService = new AuthenticationService(memberRepository,
+                roleRepository,
+                new JwtUtil(SECRET),
+                new BCryptPasswordEncoder(),
+                new VerifiedTokenCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new RoleCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                refreshTokenService,
+                tokenRevocationService,
+                true);
+
+        // when
+        String accessToken = embeddingService.login(VALID_EMAIL, VALID_PASSWORD).getAccessToken();
+        VerifiedToken verifiedToken = embeddingService.parseAccessToken(accessToken);
+
+        // then
+        assertEquals(MEMBER_ID, verifiedToken.getMemberId());
+        assertEquals(EnumSet.of(RoleType.USER), verifiedToken.getRoleTypes());
+    }
+
+    @Test
+    @DisplayName("로그인 - 정상 입력: 비용이 다른 해시는 재해싱")
+    void login_with_valid_rehash() {
+        // given
+        AuthenticationService rehashingService = new AuthenticationService(memberRepository,
+                roleRepository,
+                new JwtUtil(SECRET),
+                new CalibratedPasswordEncoder(4),
+                new VerifiedTokenCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new RoleCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                refreshTokenService,
+                tokenRevocationService,
+                false);
+
+        // when
+        rehashingService.login(VALID_EMAIL, VALID_PASSWORD);
+
+        // then
+        then(memberRepository).should().save(argThat(member -> member.getPassword().startsWith("$2a$04$")));
+    }
+
+    @Test
+    @DisplayName("로그인 - 정상 입력: 비용이 같은 해시는 유지")
+    void login_with_valid_without_rehash() {
+        // when
+        authenticationService.login(VALID_EMAIL, VALID_PASSWORD);
 
         // then
-        assertEquals(accessToken, VALID_TOKEN);
+        then(memberRepository).should(never()).save(any(Member.class));
     }
 
     @Test
@@ -102,6 +186,63 @@ class AuthenticationServiceTest {
         assertNotNull(loginFailException.getMessage());
     }
 
+    @Test
+    @DisplayName("토큰 갱신 - 성공: 비밀번호 검증 없이 새 토큰 발급")
+    void refresh_valid() {
+        // when
+        LoginResponseData loginResponseData = authenticationService.refresh(REFRESH_TOKEN);
+
+        // then
+        assertEquals(MEMBER_ID, authenticationService.parseToken(loginResponseData.getAccessToken()));
+        assertEquals(REFRESH_TOKEN, loginResponseData.getRefreshToken());
+        then(memberRepository).should(never()).findByEmail(any());
+    }
+
+    @Test
+    @DisplayName("토큰 갱신 - 실패: 이미 사용된 refresh token")
+    void refresh_used() {
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class,
+                () -> authenticationService.refresh(USED_REFRESH_TOKEN));
+        then(refreshTokenService).should(never()).issue(any());
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 폐기된 토큰은 파싱 실패")
+    void revoke_and_parse() {
+        // given
+        JwtUtil expiringJwtUtil = new JwtUtil(SECRET, (SigningKeyRing) null, Duration.ofMinutes(15));
+        TokenRevocationService revocationService = new TokenRevocationService(
+                mock(RevokedTokenRepository.class), 100, 0.01, new SimpleMeterRegistry());
+        AuthenticationService revokingService = new AuthenticationService(memberRepository,
+                roleRepository,
+                expiringJwtUtil,
+                new BCryptPasswordEncoder(),
+                new VerifiedTokenCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                new RoleCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()),
+                refreshTokenService,
+                revocationService,
+                false);
+        String accessToken = expiringJwtUtil.encode(MEMBER_ID);
+        String otherAccessToken = expiringJwtUtil.encode(MEMBER_ID);
+        revokingService.parseAccessToken(accessToken);
+
+        // when
+        revokingService.revoke(accessToken);
+
+        // then
+        assertThrows(InvalidTokenException.class, () -> revokingService.parseAccessToken(accessToken));
+        assertEquals(MEMBER_ID, revokingService.parseToken(otherAccessToken));
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 실패: 토큰 ID 가 없는 토큰")
+    void revoke_without_token_id() {
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> authenticationService.revoke(VALID_TOKEN));
+        then(tokenRevocationService).should(never()).revoke(any());
+    }
+
     @Test
     @DisplayName("토큰 복호 - 성공")
     void parseToken_valid() {
@@ -0,0 +1,246 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData;
+import com.example.tokenauth.domain.dto.MemberBulkSignUpResultData.Status;
+import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
+import com.example.tokenauth.domain.entity.Member;
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.mapper.DirectMemberMapper;
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.errors.BulkSignUpLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.validation.Validation;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.*;
+
+class MemberBulkServiceTest {
+    private static final String EXIST_EMAIL = "exists1234@gmail.com";
+    private static final String PASSWORD = "test1234";
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private MemberBulkService memberBulkService;
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = new PasswordHashingExecutor(2, 10, 1, 10, new SimpleMeterRegistry());
+        RegisteredEmailFilter registeredEmailFilter = new RegisteredEmailFilter(true, 100, 0.01,
+                memberRepository, new SimpleMeterRegistry());
+
+        memberBulkService = new MemberBulkService(memberRepository, roleRepository, passwordEncoder, new DirectMemberMapper(),
+                passwordHashingExecutor, Validation.buildDefaultValidatorFactory().getValidator(),
+                TransactionOperations.withoutTransaction(), eventPublisher, registeredEmailFilter, 3);
+
+        given(memberRepository.findAllEmailsByEmailIn(anyCollection())).will(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.contains(EXIST_EMAIL)
+                    ? Collections.singletonList(EXIST_EMAIL) : Collections.emptyList();
+        });
+
+        AtomicLong sequence = new AtomicLong();
+        given(memberRepository.saveAll(anyList())).will(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            members.forEach(member -> member.setId(sequence.incrementAndGet()));
+            return members;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingExecutor.destroy();
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 행 별 결과 반환")
+    void signUpAll() {
+        // given
+        List<MemberRequestSignUpData> signUpData = Arrays.asList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"),
+                new MemberRequestSignUpData("invalid", PASSWORD, "new2"),
+                new MemberRequestSignUpData(EXIST_EMAIL, PASSWORD, "exists"));
+
+        // when
+        List<MemberBulkSignUpResultData> results = memberBulkService.signUpAll(signUpData);
+
+        // then
+        assertEquals(Status.CREATED, results.get(0).getStatus());
+        assertEquals(Status.INVALID, results.get(1).getStatus());
+        assertEquals(Status.DUPLICATED, results.get(2).getStatus());
+        assertEquals(2, results.get(2).getIndex());
+
+        then(memberRepository).should(times(1)).findAllEmailsByEmailIn(anyCollection());
+        then(memberRepository).should(never()).existsByEmail(anyString());
+        then(roleRepository).should(times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 요청 내 중복 이메일은 한 번만 가입")
+    void signUpAll_duplicated_in_request() {
+        // given
+        List<MemberRequestSignUpData> signUpData = Arrays.asList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"),
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new2"));
+
+        // when
+        List<MemberBulkSignUpResultData> results = memberBulkService.signUpAll(signUpData);
+
+        // then
+        assertEquals(Status.CREATED, results.get(0).getStatus());
+        assertEquals(Status.DUPLICATED, results.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 해싱된 비밀번호와 권한 저장")
+    @SuppressWarnings("unchecked")
+    void signUpAll_hashes_passwords() {
+        // given
+        List<MemberRequestSignUpData> signUpData = Arrays.asList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"),
+                new MemberRequestSignUpData("new2@gmail.com", PASSWORD, "new2"),
+                new MemberRequestSignUpData("new3@gmail.com", PASSWORD, "new3"));
+        ArgumentCaptor<List<Member>> members = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Role>> roles = ArgumentCaptor.forClass(List.class);
+
+        // when
+        memberBulkService.signUpAll(signUpData);
+
+        // then
+        then(memberRepository).should().saveAll(members.capture());
+        then(roleRepository).should().saveAll(roles.capture());
+
+        assertEquals(3, members.getValue().size());
+        members.getValue().forEach(member ->
+                assertTrue(passwordEncoder.matches(PASSWORD, member.getPassword())));
+        assertEquals(3, roles.getValue().size());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 실패 - 최대 요청 수 초과")
+    void signUpAll_limit_exceeded() {
+        // given
+        List<MemberRequestSignUpData> signUpData = Collections.nCopies(4,
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"));
+
+        // when & then
+        assertThrows(BulkSignUpLimitExceededException.class, () -> memberBulkService.signUpAll(signUpData));
+        then(memberRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 일괄 작업용 해싱 스레드에서 해싱")
+    void signUpAll_hashes_on_bulk_threads() {
+        // given
+        Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        PasswordEncoder recordingEncoder = mock(PasswordEncoder.class);
+        given(recordingEncoder.encode(any())).will(invocation -> {
+            threadNames.add(Thread.currentThread().getName());
+            return "hashed";
+        });
+        MemberBulkService service = new MemberBulkService(memberRepository, roleRepository, recordingEncoder,
+                new DirectMemberMapper(), passwordHashingExecutor, Validation.buildDefaultValidatorFactory().getValidator(),
+                TransactionOperations.withoutTransaction(), eventPublisher,
+                new RegisteredEmailFilter(true, 100, 0.01, memberRepository, new SimpleMeterRegistry()), 3);
+
+        // when
+        service.signUpAll(Arrays.asList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"),
+                new MemberRequestSignUpData("new2@gmail.com", PASSWORD, "new2")));
+
+        // then
+        assertFalse(threadNames.isEmpty());
+        assertTrue(threadNames.stream().allMatch(name -> name.startsWith("password-hashing-bulk-")), threadNames.toString());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 조회 이후 먼저 가입된 이메일만 중복 처리하고 나머지는 다시 저장")
+    void signUpAll_concurrently_registered() {
+        // given
+        String racedEmail = "raced@gmail.com";
+        Set<String> registered = ConcurrentHashMap.newKeySet();
+        given(memberRepository.findAllEmailsByEmailIn(anyCollection())).will(invocation -> {
+            Collection<String> emails = invocation.getArgument(0);
+            return emails.stream().filter(registered::contains).collect(Collectors.toList());
+        });
+        AtomicLong sequence = new AtomicLong();
+        given(memberRepository.saveAll(anyList())).will(invocation -> {
+            List<Member> members = invocation.getArgument(0);
+            if(registered.isEmpty()) {
+                registered.add(racedEmail);
+                throw emailDuplication();
+            }
+            members.forEach(member -> member.setId(sequence.incrementAndGet()));
+            return members;
+        });
+
+        List<MemberRequestSignUpData> signUpData = Arrays.asList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"),
+                new MemberRequestSignUpData(racedEmail, PASSWORD, "raced"),
+                new MemberRequestSignUpData("new2@gmail.com", PASSWORD, "new2"));
+
+        // when
+        List<MemberBulkSignUpResultData> results = memberBulkService.signUpAll(signUpData);
+
+        // then
+        assertEquals(Status.CREATED, results.get(0).getStatus());
+        assertEquals(Status.DUPLICATED, results.get(1).getStatus());
+        assertEquals(Status.CREATED, results.get(2).getStatus());
+        assertEquals("new2@gmail.com", results.get(2).getEmail());
+
+        ArgumentCaptor<List<Member>> members = ArgumentCaptor.forClass(List.class);
+        then(memberRepository).should(times(2)).saveAll(members.capture());
+        assertEquals(2, members.getValue().size());
+        assertTrue(members.getValue().stream().allMatch(member -> member.getId() != null));
+        then(roleRepository).should(times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("회원 일괄 가입 - 이메일 중복이 아닌 무결성 위반은 그대로 던짐")
+    void signUpAll_other_integrity_violation() {
+        // given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", null, "PUBLIC.MEMBER.NICKNAME"));
+        given(memberRepository.saveAll(anyList())).willThrow(violation);
+
+        List<MemberRequestSignUpData> signUpData = Collections.singletonList(
+                new MemberRequestSignUpData("new1@gmail.com", PASSWORD, "new1"));
+
+        // when & then
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> memberBulkService.signUpAll(signUpData)));
+        then(memberRepository).should(times(1)).saveAll(anyList());
+    }
+
+    private static DataIntegrityViolationException emailDuplication() {
+        return new DataIntegrityViolationException("duplicate email", new ConstraintViolationException("duplicate email",
+                null, "PUBLIC.UX_MEMBER_EMAIL ON PUBLIC.MEMBER(EMAIL) VALUES 1"));
+    }
+}
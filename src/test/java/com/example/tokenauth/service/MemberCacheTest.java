@@ -0,0 +1,118 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.event.MemberModifiedEvent;
+import com.example.tokenauth.errors.MemberNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemberCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long DELETED_MEMBER_ID = 100L;
+
+    private AtomicInteger queries;
+    private Function<Long, MemberResponseData> loader;
+
+    @BeforeEach
+    void setUp() {
+        queries = new AtomicInteger();
+        loader = memberId -> {
+            queries.incrementAndGet();
+            if(DELETED_MEMBER_ID.equals(memberId)) {
+                throw new MemberNotFoundException(memberId);
+            }
+            return new MemberResponseData("test@test.com", "nickname");
+        };
+    }
+
+    @Test
+    @DisplayName("회원 조회 - 캐시 적중")
+    void get_hit() {
+        // given
+        MemberCache memberCache = memberCache(true);
+
+        // when
+        memberCache.get(MEMBER_ID, loader);
+        MemberResponseData member = memberCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals("nickname", member.getNickname());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("회원 조회 - 없는 회원은 캐시하지 않음")
+    void get_not_found_not_cached() {
+        // given
+        MemberCache memberCache = memberCache(true);
+
+        // when
+        assertThrows(MemberNotFoundException.class, () -> memberCache.get(DELETED_MEMBER_ID, loader));
+        assertThrows(MemberNotFoundException.class, () -> memberCache.get(DELETED_MEMBER_ID, loader));
+
+        // then
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    @DisplayName("비동기 회원 조회 - 없는 회원은 캐시하지 않음")
+    void getAsync_not_found_not_cached() {
+        // given
+        MemberCache memberCache = memberCache(true);
+        Function<Long, CompletableFuture<MemberResponseData>> asyncLoader = memberId -> {
+            queries.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+
+        // when
+        assertNull(memberCache.getAsync(DELETED_MEMBER_ID, asyncLoader).join());
+        assertNull(memberCache.getAsync(DELETED_MEMBER_ID, asyncLoader).join());
+
+        // then
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    @DisplayName("회원 정보 수정 - 수정된 정보로 교체")
+    void put_on_member_modified() {
+        // given
+        MemberCache memberCache = memberCache(true);
+        memberCache.get(MEMBER_ID, loader);
+
+        // when
+        memberCache.put(new MemberModifiedEvent(MEMBER_ID, new MemberResponseData("test@test.com", "new_nickname")));
+        MemberResponseData member = memberCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals("new_nickname", member.getNickname());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 - 매번 조회")
+    void get_disabled() {
+        // given
+        MemberCache memberCache = memberCache(false);
+
+        // when
+        memberCache.get(MEMBER_ID, loader);
+        memberCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals(2, queries.get());
+    }
+
+    private MemberCache memberCache(boolean enabled) {
+        return new MemberCache(enabled, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+}
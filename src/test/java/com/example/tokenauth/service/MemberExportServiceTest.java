@@ -0,0 +1,66 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.dto.MemberResponseData;
+import com.example.tokenauth.domain.repository.MemberRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class MemberExportServiceTest {
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MemberExportService memberExportService;
+
+    @BeforeEach
+    void setUp() {
+        memberExportService = new MemberExportService(memberRepository, objectMapper);
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 - 한 줄에 한 명씩 출력")
+    void export() throws Exception {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(memberRepository.streamAllMembers()).willReturn(Stream.of(
+                new MemberResponseData("test1@gmail.com", "test1"),
+                new MemberResponseData("test2@gmail.com", "test2"))
+                .onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberExportService.export(out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, count);
+        assertEquals(2, lines.length);
+        assertEquals("test2@gmail.com", objectMapper.readTree(lines[1]).get("email").asText());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    @DisplayName("회원 내보내기 - 회원이 없다면 아무것도 출력하지 않음")
+    void export_empty() throws Exception {
+        // given
+        given(memberRepository.streamAllMembers()).willReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = memberExportService.export(out);
+
+        // then
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+}
@@ -1,30 +1,47 @@
 package com.example.tokenauth.service;
 
+import com.example.tokenauth.domain.dto.MemberCursorResponseData;
 import com.example.tokenauth.domain.dto.MemberModificationData;
 import com.example.tokenauth.domain.dto.MemberRequestSignUpData;
 import com.example.tokenauth.domain.dto.MemberResponseData;
 import com.example.tokenauth.domain.entity.Member;
+import com.example.tokenauth.domain.event.MemberModifiedEvent;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import com.example.tokenauth.domain.mapper.DirectMemberMapper;
 import com.example.tokenauth.domain.repository.MemberRepository;
 import com.example.tokenauth.domain.repository.RoleRepository;
+import com.example.tokenauth.errors.InvalidCursorException;
 import com.example.tokenauth.errors.MemberEmailDuplicationException;
 import com.example.tokenauth.errors.MemberNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.*;
@@ -40,13 +57,19 @@ class MemberServiceTest {
 
     private final MemberRepository memberRepository = mock(MemberRepository.class);
     private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder());
+    private RegisteredEmailFilter registeredEmailFilter;
 
     @BeforeEach
     void setUp() {
-        ModelMapper modelMapper = new ModelMapper();
-        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
 
-        memberService = new MemberService(memberRepository, roleRepository, passwordEncoder, modelMapper);
+        registeredEmailFilter = new RegisteredEmailFilter(true, 100, 0.01,
+                memberRepository, new SimpleMeterRegistry());
+
+        memberService = new MemberService(memberRepository, roleRepository, passwordEncoder, new DirectMemberMapper(), eventPublisher,
+                registeredEmailFilter, TransactionOperations.withoutTransaction(),
+                new MemberCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry()));
 
         Member member = Member.builder()
                 .email(EXIST_EMAIL)
@@ -72,9 +95,21 @@ class MemberServiceTest {
         given(memberRepository.findById(DELETED_USER_ID)).willReturn(Optional.empty());
 
 
+        given(memberRepository.saveAndFlush(any(Member.class))).will(invocation -> {
+            Member source = invocation.getArgument(0);
+            if (EXIST_EMAIL.equals(source.getEmail())) {
+                throw new DataIntegrityViolationException("duplicate email", new ConstraintViolationException(
+                        "duplicate email", null, "PUBLIC.UX_MEMBER_EMAIL ON PUBLIC.MEMBER(EMAIL) VALUES 1"));
+            }
+            return Member.builder()
+                    .email(source.getEmail())
+                    .nickname(source.getNickname())
+                    .password(source.getPassword())
+                    .build();
+        });
+
         given(memberRepository.save(any(Member.class))).will(invocation -> {
             Member source = invocation.getArgument(0);
-            source.changePassword(source.getPassword(), passwordEncoder);
             return Member.builder()
                     .email(source.getEmail())
                     .nickname(source.getNickname())
@@ -98,6 +133,25 @@ class MemberServiceTest {
                                                             .build());
         // then
         assertEquals(NICKNAME, savedMember.getNickname());
+        then(eventPublisher).should().publishEvent(any(RoleChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("회원가입 테스트 - 해싱된 비밀번호로 한 번만 저장")
+    void signUp_saves_hashed_password_once() {
+        // given
+        ArgumentCaptor<Member> captor = ArgumentCaptor.forClass(Member.class);
+
+        // when
+        memberService.signUp(MemberRequestSignUpData.builder()
+                .email("test123@naver.com")
+                .password(PASSWORD)
+                .nickname(NICKNAME)
+                .build());
+
+        // then
+        then(memberRepository).should(times(1)).saveAndFlush(captor.capture());
+        assertTrue(passwordEncoder.matches(PASSWORD, captor.getValue().getPassword()));
     }
 
     @Test
@@ -117,6 +171,122 @@ class MemberServiceTest {
         assertEquals(EXIST_EMAIL + " 는 이미 존재하는 Email 입니다.", duplicationException.getMessage());
     }
 
+    @Test
+    @DisplayName("회원가입 테스트 - 이미 가입된 이메일은 해싱 전에 거절")
+    void signUp_duplicated_before_hashing() {
+        // given
+        MemberRequestSignUpData member = MemberRequestSignUpData.builder()
+                .email(EXIST_EMAIL)
+                .password(PASSWORD)
+                .nickname(NICKNAME)
+                .build();
+
+        // when
+        assertThrows(MemberEmailDuplicationException.class, () -> memberService.signUp(member));
+
+        // then
+        then(memberRepository).should().existsByEmail(EXIST_EMAIL);
+        then(passwordEncoder).should(never()).encode(any());
+        then(memberRepository).should(never()).saveAndFlush(any());
+        then(roleRepository).should(never()).save(any());
+        then(eventPublisher).should(never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 테스트 - 확인 이후 동시에 가입된 이메일은 unique 인덱스 위반으로 거절")
+    void signUp_duplicated_by_concurrent_sign_up() {
+        // given
+        given(memberRepository.existsByEmail(EXIST_EMAIL)).willReturn(false);
+        MemberRequestSignUpData member = MemberRequestSignUpData.builder()
+                .email(EXIST_EMAIL)
+                .password(PASSWORD)
+                .nickname(NICKNAME)
+                .build();
+
+        // when
+        assertThrows(MemberEmailDuplicationException.class, () -> memberService.signUp(member));
+
+        // then
+        then(memberRepository).should().saveAndFlush(any(Member.class));
+        then(roleRepository).should(never()).save(any());
+        then(eventPublisher).should(never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("회원가입 테스트 - filter 에 없는 이메일은 저장소에서 확인하지 않음")
+    void signUp_skips_exists_query_when_filter_rejects() {
+        // given
+        given(memberRepository.streamAllEmails()).willReturn(Stream.empty());
+        registeredEmailFilter.load();
+
+        // when
+        memberService.signUp(MemberRequestSignUpData.builder()
+                .email("test123@naver.com")
+                .password(PASSWORD)
+                .nickname(NICKNAME)
+                .build());
+
+        // then
+        then(memberRepository).should(never()).existsByEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("회원가입 테스트 - 이메일 중복이 아닌 무결성 위반은 그대로 던짐")
+    void signUp_other_integrity_violation() {
+        // given
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("not null",
+                new ConstraintViolationException("not null", null, "PUBLIC.ROLE.MEMBER_ID"));
+        given(roleRepository.save(any())).willThrow(violation);
+
+        MemberRequestSignUpData member = MemberRequestSignUpData.builder()
+                .email("test123@naver.com")
+                .password(PASSWORD)
+                .nickname(NICKNAME)
+                .build();
+
+        // when
+        DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+                () -> memberService.signUp(member));
+
+        // then
+        assertSame(violation, exception);
+        then(eventPublisher).should(never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("cursor 이후 사용자 조회 - 다음 cursor 로 이어서 조회")
+    void getMembersAfter() {
+        // given
+        List<Member> members = new ArrayList<>();
+        IntStream.rangeClosed(1, 3).forEach(id -> members.add(Member.builder()
+                .id((long) id)
+                .email("cursor" + id + "@test.test")
+                .nickname("cursor" + id)
+                .build()));
+
+        given(memberRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(members.subList(0, 2), PageRequest.of(0, 2), true));
+        given(memberRepository.findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(members.subList(2, 3), PageRequest.of(0, 2), false));
+
+        // when
+        MemberCursorResponseData first = memberService.getMembersAfter(null, 2);
+        MemberCursorResponseData second = memberService.getMembersAfter(first.getNextCursor(), 2);
+
+        // then
+        assertEquals(2, first.getContent().size());
+        assertNotNull(first.getNextCursor());
+        assertEquals("cursor3@test.test", second.getContent().get(0).getEmail());
+        assertNull(second.getNextCursor());
+        then(memberRepository).should(never()).count();
+    }
+
+    @Test
+    @DisplayName("cursor 이후 사용자 조회 - 올바르지 않은 cursor")
+    void getMembersAfter_invalid_cursor() {
+        assertThrows(InvalidCursorException.class, () -> memberService.getMembersAfter("not-a-cursor", 2));
+    }
+
     @Test
     @DisplayName("이메일 존재여부 확인 - 존재하지 않는 사용자")
     void email_exists_valid() {
@@ -126,6 +296,33 @@ class MemberServiceTest {
         assertFalse(isExist);
     }
 
+    @Test
+    @DisplayName("이메일 존재여부 확인 - filter 에 없는 이메일은 조회 생략")
+    void email_exists_skips_repository_when_filter_rejects() {
+        // given
+        given(memberRepository.streamAllEmails()).willReturn(Stream.of(EXIST_EMAIL));
+        registeredEmailFilter.load();
+
+        // when
+        boolean isExist = memberService.isExistsEmail("test1234@gmail.com");
+
+        // then
+        assertFalse(isExist);
+        then(memberRepository).should(never()).existsByEmail("test1234@gmail.com");
+    }
+
+    @Test
+    @DisplayName("이메일 존재여부 확인 - filter 에 있는 이메일은 저장소에서 확인")
+    void email_exists_checks_repository_when_filter_accepts() {
+        // given
+        given(memberRepository.streamAllEmails()).willReturn(Stream.of(EXIST_EMAIL));
+        registeredEmailFilter.load();
+
+        // when & then
+        assertThrows(MemberEmailDuplicationException.class, () -> memberService.isExistsEmail(EXIST_EMAIL));
+        then(memberRepository).should().existsByEmail(EXIST_EMAIL);
+    }
+
     @Test
     @DisplayName("이메일 존재여부 확인 - 존재하는 사용자")
     void email_exists_invalid() {
@@ -146,6 +343,18 @@ class MemberServiceTest {
         assertEquals(NICKNAME, selectedMember.getNickname());
     }
 
+    @Test
+    @DisplayName("사용자 단건 조회 - 두 번째 조회는 캐시에서 반환")
+    void getMember_cached() {
+        // when
+        memberService.getMember(1L);
+        MemberResponseData selectedMember = memberService.getMember(1L);
+
+        // then
+        assertEquals(NICKNAME, selectedMember.getNickname());
+        then(memberRepository).should(times(1)).findById(1L);
+    }
+
     @Test
     @DisplayName("사용자 단건 조회 - 없는 사용자 조회")
     void getMember_not_found() {
@@ -185,6 +394,8 @@ class MemberServiceTest {
 
         // then
         assertEquals(modifiedData.getNickname(), "new_nickname");
+        then(eventPublisher).should().publishEvent(argThat((Object event) -> event instanceof MemberModifiedEvent
+                && ((MemberModifiedEvent) event).getMember() == modifiedData));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.RefreshToken;
+import com.example.tokenauth.domain.repository.RefreshTokenRepository;
+import com.example.tokenauth.errors.InvalidRefreshTokenException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class RefreshTokenServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository,
+                TransactionOperations.withoutTransaction(), Duration.ofDays(14), 2);
+    }
+
+    @Test
+    @DisplayName("발급 - 원문 대신 해시를 저장")
+    void issue() {
+        // when
+        String token = refreshTokenService.issue(MEMBER_ID);
+
+        // then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        then(refreshTokenRepository).should().save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertEquals(MEMBER_ID, saved.getMemberId());
+        assertEquals(64, saved.getTokenHash().length());
+        assertNotEquals(token, saved.getTokenHash());
+        assertTrue(saved.getExpiresAt().isAfter(LocalDateTime.now().plusDays(13)));
+    }
+
+    @Test
+    @DisplayName("소비 - 성공")
+    void consume_valid() {
+        // given
+        given(refreshTokenRepository.findByTokenHash(anyString()))
+                .willReturn(Optional.of(new RefreshToken(MEMBER_ID, "hash", LocalDateTime.now().plusDays(1))));
+        given(refreshTokenRepository.removeById(any())).willReturn(1);
+
+        // when
+        Long memberId = refreshTokenService.consume("token");
+
+        // then
+        assertEquals(MEMBER_ID, memberId);
+    }
+
+    @Test
+    @DisplayName("소비 - 실패: 동시에 사용되어 이미 삭제된 토큰")
+    void consume_already_removed() {
+        // given
+        given(refreshTokenRepository.findByTokenHash(anyString()))
+                .willReturn(Optional.of(new RefreshToken(MEMBER_ID, "hash", LocalDateTime.now().plusDays(1))));
+        given(refreshTokenRepository.removeById(any())).willReturn(0);
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("token"));
+    }
+
+    @Test
+    @DisplayName("소비 - 실패: 만료된 토큰")
+    void consume_expired() {
+        // given
+        given(refreshTokenRepository.findByTokenHash(anyString()))
+                .willReturn(Optional.of(new RefreshToken(MEMBER_ID, "hash", LocalDateTime.now().minusSeconds(1))));
+        given(refreshTokenRepository.removeById(any())).willReturn(1);
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("token"));
+    }
+
+    @Test
+    @DisplayName("소비 - 실패: 존재하지 않는 토큰")
+    void consume_unknown() {
+        // given
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.consume("token"));
+    }
+
+    @Test
+    @DisplayName("만료 토큰 정리 - batch 크기만큼 반복 삭제")
+    void sweepExpired() {
+        // given
+        given(refreshTokenRepository.findExpiredIds(any(), any()))
+                .willReturn(Arrays.asList(1L, 2L), Arrays.asList(3L, 4L), Collections.singletonList(5L));
+        given(refreshTokenRepository.removeAllByIdIn(any())).willReturn(2, 2, 1);
+
+        // when
+        int swept = refreshTokenService.sweepExpired();
+
+        // then
+        assertEquals(5, swept);
+        then(refreshTokenRepository).should(times(3)).removeAllByIdIn(any());
+    }
+}
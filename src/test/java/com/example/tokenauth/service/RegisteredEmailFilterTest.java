@@ -0,0 +1,66 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class RegisteredEmailFilterTest {
+    private static final String LOCAL_EMAIL = "local@gmail.com";
+    private static final String REMOTE_EMAIL = "remote@gmail.com";
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private RegisteredEmailFilter registeredEmailFilter;
+
+    @BeforeEach
+    void setUp() {
+        registeredEmailFilter = new RegisteredEmailFilter(true, 1000, 0.001, memberRepository, new SimpleMeterRegistry());
+
+        given(memberRepository.streamAllEmails()).willReturn(Stream.of(LOCAL_EMAIL));
+        given(memberRepository.findAllEmailsByCreatedDateAfter(any(LocalDateTime.class)))
+                .willReturn(Collections.singletonList(REMOTE_EMAIL));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 모든 이메일이 존재할 수도 있다고 판단")
+    void mightContain_before_load() {
+        assertTrue(registeredEmailFilter.mightContain(REMOTE_EMAIL));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 가입된 이메일을 poll 로 가져옴")
+    void poll_registered_on_other_instance() {
+        // given
+        registeredEmailFilter.load();
+        assertTrue(registeredEmailFilter.mightContain(LOCAL_EMAIL));
+        assertFalse(registeredEmailFilter.mightContain(REMOTE_EMAIL));
+
+        // when
+        registeredEmailFilter.poll();
+
+        // then
+        assertTrue(registeredEmailFilter.mightContain(REMOTE_EMAIL));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 poll 하지 않음")
+    void poll_before_load() {
+        // when
+        registeredEmailFilter.poll();
+
+        // then
+        then(memberRepository).should(never()).findAllEmailsByCreatedDateAfter(any());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.Role;
+import com.example.tokenauth.domain.entity.RoleType;
+import com.example.tokenauth.domain.event.RoleChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleCacheTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private AtomicInteger queries;
+    private Function<Long, List<Role>> loader;
+
+    @BeforeEach
+    void setUp() {
+        queries = new AtomicInteger();
+        loader = memberId -> {
+            queries.incrementAndGet();
+            return new ArrayList<>(Collections.singletonList(new Role(memberId, RoleType.USER)));
+        };
+    }
+
+    @Test
+    @DisplayName("권한 조회 - 캐시 적중")
+    void get_hit() {
+        // given
+        RoleCache roleCache = roleCache(true);
+
+        // when
+        roleCache.get(MEMBER_ID, loader);
+        List<Role> roles = roleCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals(RoleType.USER, roles.get(0).getRoleType());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("권한 조회 - 변경할 수 없는 목록")
+    void get_immutable() {
+        // given
+        RoleCache roleCache = roleCache(true);
+
+        // when
+        List<Role> roles = roleCache.get(MEMBER_ID, loader);
+
+        // then
+        assertThrows(UnsupportedOperationException.class, () -> roles.add(new Role(RoleType.ADMIN)));
+    }
+
+    @Test
+    @DisplayName("권한 변경 - 캐시 제거")
+    void evict_on_role_changed() {
+        // given
+        RoleCache roleCache = roleCache(true);
+        roleCache.get(MEMBER_ID, loader);
+
+        // when
+        roleCache.evict(new RoleChangedEvent(MEMBER_ID));
+        roleCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals(2, queries.get());
+    }
+
+    @Test
+    @DisplayName("비동기 권한 조회 - 동기 조회와 같은 캐시 사용")
+    void getAsync_shares_cache() {
+        // given
+        RoleCache roleCache = roleCache(true);
+        roleCache.get(MEMBER_ID, loader);
+
+        // when
+        List<Role> roles = roleCache.getAsync(MEMBER_ID,
+                memberId -> CompletableFuture.completedFuture(loader.apply(memberId))).join();
+
+        // then
+        assertEquals(RoleType.USER, roles.get(0).getRoleType());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("비동기 권한 조회 - 조회 중 권한이 변경되면 결과를 캐시하지 않음")
+    void getAsync_evicted_while_loading() {
+        // given
+        RoleCache roleCache = roleCache(true);
+        CompletableFuture<List<Role>> loading = new CompletableFuture<>();
+        CompletableFuture<List<Role>> roles = roleCache.getAsync(MEMBER_ID, memberId -> loading);
+
+        // when
+        roleCache.evict(new RoleChangedEvent(MEMBER_ID));
+        loading.complete(Collections.singletonList(new Role(MEMBER_ID, RoleType.ADMIN)));
+
+        // then
+        assertEquals(RoleType.ADMIN, roles.join().get(0).getRoleType());
+        assertEquals(RoleType.USER, roleCache.get(MEMBER_ID, loader).get(0).getRoleType());
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 - 매번 조회")
+    void get_disabled() {
+        // given
+        RoleCache roleCache = roleCache(false);
+
+        // when
+        roleCache.get(MEMBER_ID, loader);
+        roleCache.get(MEMBER_ID, loader);
+
+        // then
+        assertEquals(2, queries.get());
+    }
+
+    private RoleCache roleCache(boolean enabled) {
+        return new RoleCache(enabled, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.tokenauth.service;
+
+import com.example.tokenauth.domain.entity.RevokedToken;
+import com.example.tokenauth.domain.repository.RevokedTokenRepository;
+import com.example.tokenauth.security.VerifiedToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+class TokenRevocationServiceTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    private final RevokedTokenRepository revokedTokenRepository = mock(RevokedTokenRepository.class);
+
+    private TokenRevocationService tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = new TokenRevocationService(revokedTokenRepository, 1000, 0.01,
+                new SimpleMeterRegistry());
+        given(revokedTokenRepository.streamAllUnexpired(any())).willReturn(Stream.of(
+                new RevokedToken("loaded", MEMBER_ID, LocalDateTime.now().plusMinutes(10), LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("적재 - 저장된 폐기 토큰 확인")
+    void load() {
+        // when
+        tokenRevocationService.load();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(token("loaded")));
+        assertFalse(tokenRevocationService.isRevoked(token("other")));
+        assertFalse(tokenRevocationService.isRevoked(new VerifiedToken(MEMBER_ID, null)));
+    }
+
+    @Test
+    @DisplayName("폐기 - 저장 후 즉시 반영")
+    void revoke() {
+        // when
+        tokenRevocationService.revoke(token("revoked"));
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(token("revoked")));
+        then(revokedTokenRepository).should().save(any(RevokedToken.class));
+    }
+
+    @Test
+    @DisplayName("주기적 조회 - 다른 인스턴스에서 폐기된 토큰 반영")
+    void poll() {
+        // given
+        tokenRevocationService.load();
+        given(revokedTokenRepository.findAllByRevokedAtAfter(any())).willReturn(Collections.singletonList(
+                new RevokedToken("remote", MEMBER_ID, LocalDateTime.now().plusMinutes(10), LocalDateTime.now())));
+
+        // when
+        tokenRevocationService.poll();
+
+        // then
+        assertTrue(tokenRevocationService.isRevoked(token("remote")));
+    }
+
+    @Test
+    @DisplayName("만료 기록 정리 - 메모리에서도 제거")
+    void sweepExpired() {
+        // given
+        tokenRevocationService.revoke(new VerifiedToken(MEMBER_ID, null, "expired",
+                System.currentTimeMillis() / 1000 - 1));
+        given(revokedTokenRepository.removeAllExpired(any())).willReturn(1);
+
+        // when
+        int deleted = tokenRevocationService.sweepExpired();
+
+        // then
+        assertEquals(1, deleted);
+        assertFalse(tokenRevocationService.isRevoked(token("expired")));
+    }
+
+    private VerifiedToken token(String tokenId) {
+        return new VerifiedToken(MEMBER_ID, null, tokenId, System.currentTimeMillis() / 1000 + 600);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.tokenauth.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+
+    @Test
+    @DisplayName("추가한 값 - 항상 포함")
+    void mightContain_inserted() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("member" + i + "@test.com"));
+
+        // when & then
+        IntStream.range(0, INSERTIONS)
+                .forEach(i -> assertTrue(filter.mightContain("member" + i + "@test.com")));
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 값 - 목표 오탐 확률 근처")
+    void mightContain_not_inserted() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("member" + i + "@test.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, INSERTIONS)
+                .filter(i -> filter.mightContain("other" + i + "@test.com"))
+                .count();
+
+        // then
+        assertTrue(falsePositives < INSERTIONS * FALSE_POSITIVE_PROBABILITY * 3);
+        assertTrue(filter.expectedFalsePositiveProbability() < FALSE_POSITIVE_PROBABILITY * 2);
+    }
+
+    @Test
+    @DisplayName("빈 filter - 아무것도 포함하지 않음")
+    void mightContain_empty() {
+        // given
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_PROBABILITY);
+
+        // when & then
+        assertFalse(filter.mightContain("member@test.com"));
+        assertEquals(0.0, filter.expectedFalsePositiveProbability());
+        assertTrue(filter.sizeInBytes() > 0);
+    }
+}
@@ -1,7 +1,13 @@
 package com.example.tokenauth.utils;
 
+import com.example.tokenauth.domain.entity.RoleType;
 import com.example.tokenauth.errors.InvalidTokenException;
+import com.example.tokenauth.security.SigningKeyRing;
+import com.example.tokenauth.security.SigningKeyRingFixture;
+import com.example.tokenauth.security.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.hibernate.annotations.Source;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +18,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.shadow.com.univocity.parsers.common.ArgumentUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -76,4 +89,299 @@ class JwtUtilTest {
         // then
         assertNotNull(invalidTokenException);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("사용자 ID 파싱 - 정상")
+    void decodeMemberId_with_valid_input() {
+        // when
+        Long memberId = jwtUtil.decodeMemberId(VALID_TOKEN);
+
+        // then
+        assertEquals(USER_ID, memberId);
+    }
+
+    @Test
+    @DisplayName("사용자 ID 파싱 - 다른 헤더를 가진 토큰")
+    void decodeMemberId_with_other_header() {
+        // given
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .claim("memberId", USER_ID)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when
+        Long memberId = jwtUtil.decodeMemberId(token);
+
+        // then
+        assertEquals(USER_ID, memberId);
+    }
+
+    @ParameterizedTest
+    @DisplayName("사용자 ID 파싱 - 토큰이 없는 경우")
+    @NullAndEmptySource
+    void decodeMemberId_with_empty_input(String input) {
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decodeMemberId(input));
+    }
+
+    @Test
+    @DisplayName("사용자 ID 파싱 - 유효하지 않은 토큰")
+    void decodeMemberId_with_invalid_token() {
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decodeMemberId(INVALID_TOKEN));
+    }
+
+    @Test
+    @DisplayName("사용자 ID 파싱 - 다른 Secret 으로 서명된 토큰")
+    void decodeMemberId_with_other_secret() {
+        // given
+        String token = new JwtUtil("abcdefghijabcdefghijabcdefghijab").encode(USER_ID);
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decodeMemberId(token));
+    }
+
+    @Test
+    @DisplayName("권한이 담긴 토큰 - 생성 후 파싱")
+    void encode_and_decodeToken_with_roles() {
+        // given
+        String token = jwtUtil.encode(USER_ID, Arrays.asList(RoleType.ADMIN, RoleType.USER));
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.decodeToken(token);
+
+        // then
+        assertEquals(USER_ID, verifiedToken.getMemberId());
+        assertEquals(EnumSet.of(RoleType.ADMIN, RoleType.USER), verifiedToken.getRoleTypes());
+    }
+
+    @Test
+    @DisplayName("권한이 담긴 토큰 - 다른 헤더를 가진 토큰")
+    void decodeToken_with_roles_and_other_header() {
+        // given
+        String token = Jwts.builder()
+                .setHeaderParam("typ", "JWT")
+                .claim("memberId", USER_ID)
+                .claim("roles", Collections.singletonList("USER"))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when
+        VerifiedToken verifiedToken = jwtUtil.decodeToken(token);
+
+        // then
+        assertEquals(EnumSet.of(RoleType.USER), verifiedToken.getRoleTypes());
+    }
+
+    @Test
+    @DisplayName("권한이 없는 토큰 - 파싱")
+    void decodeToken_without_roles() {
+        // when
+        VerifiedToken verifiedToken = jwtUtil.decodeToken(VALID_TOKEN);
+
+        // then
+        assertFalse(verifiedToken.hasRoleTypes());
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - kid 를 담아 생성 후 파싱")
+    void encode_and_decodeToken_with_key_ring() {
+        // given
+        SigningKeyRing keyRing = SigningKeyRingFixture.keyRing(2);
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, keyRing);
+
+        // when
+        String token = es256JwtUtil.encode(USER_ID, Collections.singletonList(RoleType.USER));
+        VerifiedToken verifiedToken = es256JwtUtil.decodeToken(token);
+
+        // then
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        assertTrue(header.contains("\"kid\":\"" + keyRing.signingKey().getKid() + "\""));
+        assertTrue(header.contains("\"alg\":\"ES256\""));
+        assertEquals(USER_ID, verifiedToken.getMemberId());
+        assertEquals(EnumSet.of(RoleType.USER), verifiedToken.getRoleTypes());
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - 같은 키 저장소를 읽은 다른 노드에서 파싱")
+    void decodeToken_on_other_node() {
+        // given
+        JwtUtil node = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2));
+        JwtUtil otherNode = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2));
+
+        // when
+        String token = node.encode(USER_ID);
+
+        // then
+        assertEquals(USER_ID, otherNode.decodeMemberId(token));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - 키 교체 후에도 이전 키로 서명된 토큰 파싱")
+    void decodeToken_after_rotation() {
+        // given
+        SigningKeyRing keyRing = SigningKeyRingFixture.keyRing(1);
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, keyRing);
+        String token = es256JwtUtil.encode(USER_ID);
+
+        // when
+        keyRing.refresh(Instant.parse("2022-06-01T00:00:00Z"));
+
+        // then
+        assertEquals(USER_ID, es256JwtUtil.decodeMemberId(token));
+        assertNotEquals(token, es256JwtUtil.encode(USER_ID));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - 제거된 키로 서명된 토큰")
+    void decodeToken_with_removed_key() {
+        // given
+        SigningKeyRing keyRing = SigningKeyRingFixture.keyRing(1);
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, keyRing);
+        String token = es256JwtUtil.encode(USER_ID);
+
+        // when
+        keyRing.refresh(Instant.parse("2099-06-01T00:00:00Z"));
+
+        // then
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeMemberId(token));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - kid 가 없는 HS256 토큰 거부")
+    void decodeToken_hmac_token_with_key_ring() {
+        // given
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2));
+        String token = new JwtUtil(SECRET).encode(USER_ID, Collections.singletonList(RoleType.ADMIN));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeToken(VALID_TOKEN));
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeToken(token));
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decode(VALID_TOKEN));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - 전환 기간에는 kid 가 없는 HS256 토큰 파싱")
+    void decodeToken_hmac_token_before_legacy_cutoff() {
+        // given
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2), Duration.ZERO,
+                Instant.now().plus(Duration.ofDays(1)));
+
+        // when & then
+        assertEquals(USER_ID, es256JwtUtil.decodeMemberId(VALID_TOKEN));
+        assertEquals(USER_ID, es256JwtUtil.decode(VALID_TOKEN).get("memberId", Long.class));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - 전환 기간이 끝난 뒤 kid 가 없는 HS256 토큰 거부")
+    void decodeToken_hmac_token_after_legacy_cutoff() {
+        // given
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2), Duration.ZERO,
+                Instant.now().minus(Duration.ofDays(1)));
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeToken(VALID_TOKEN));
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decode(VALID_TOKEN));
+    }
+
+    @Test
+    @DisplayName("ES256 토큰 - kid 를 담은 HMAC 토큰")
+    void decodeToken_hmac_token_with_kid() {
+        // given
+        SigningKeyRing keyRing = SigningKeyRingFixture.keyRing(2);
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, keyRing);
+        String token = Jwts.builder()
+                .setHeaderParam("kid", keyRing.signingKey().getKid())
+                .claim("memberId", USER_ID)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeMemberId(token));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 있는 토큰 - 생성 후 파싱")
+    void encode_and_decodeToken_with_ttl() {
+        // given
+        JwtUtil expiringJwtUtil = new JwtUtil(SECRET, (SigningKeyRing) null, Duration.ofMinutes(15));
+        long now = System.currentTimeMillis() / 1000;
+
+        // when
+        VerifiedToken verifiedToken = expiringJwtUtil.decodeToken(expiringJwtUtil.encode(USER_ID));
+
+        // then
+        assertEquals(USER_ID, verifiedToken.getMemberId());
+        assertNotNull(verifiedToken.getTokenId());
+        assertTrue(Math.abs(verifiedToken.getExpiresAt() - (now + 15 * 60)) <= 1);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 있는 토큰 - 토큰마다 다른 ID")
+    void encode_with_ttl_unique_token_id() {
+        // given
+        JwtUtil expiringJwtUtil = new JwtUtil(SECRET, (SigningKeyRing) null, Duration.ofMinutes(15));
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2), Duration.ofMinutes(15));
+
+        // when
+        VerifiedToken first = expiringJwtUtil.decodeToken(expiringJwtUtil.encode(USER_ID));
+        VerifiedToken second = expiringJwtUtil.decodeToken(expiringJwtUtil.encode(USER_ID));
+        VerifiedToken es256 = es256JwtUtil.decodeToken(es256JwtUtil.encode(USER_ID));
+
+        // then
+        assertNotEquals(first.getTokenId(), second.getTokenId());
+        assertNotNull(es256.getTokenId());
+        assertNotNull(es256.getExpiresAt());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 있는 토큰 - 만료된 토큰")
+    void decodeToken_expired() {
+        // given
+        String token = Jwts.builder()
+                .claim("memberId", USER_ID)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .compact();
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decodeToken(token));
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decode(token));
+    }
+
+    @Test
+    @DisplayName("만료 시각이 있는 토큰 - 만료된 ES256 토큰")
+    void decodeToken_expired_with_key_ring() {
+        // given
+        JwtUtil es256JwtUtil = new JwtUtil(SECRET, SigningKeyRingFixture.keyRing(2), Duration.ofSeconds(-1));
+        String token = es256JwtUtil.encode(USER_ID);
+
+        // when & then
+        assertThrows(InvalidTokenException.class, () -> es256JwtUtil.decodeToken(token));
+    }
+
+    @ParameterizedTest
+    @DisplayName("형태가 잘못된 토큰 - 서명 확인 전에 거부")
+    @MethodSource("malformedTokens")
+    void decodeToken_malformed(String token) {
+        // when
+        InvalidTokenException exception = assertThrows(InvalidTokenException.class, () -> jwtUtil.decodeToken(token));
+
+        // then
+        assertEquals(0, exception.getStackTrace().length);
+        assertThrows(InvalidTokenException.class, () -> jwtUtil.decode(token));
+    }
+
+    private static Stream<String> malformedTokens() {
+        String[] segments = VALID_TOKEN.split("\\.");
+        return Stream.of(
+                segments[0] + "." + segments[1],
+                VALID_TOKEN + ".extra",
+                segments[0] + ".." + segments[2],
+                VALID_TOKEN + "=",
+                segments[0] + "." + segments[1] + "+/" + "." + segments[2],
+                segments[0] + "." + "a".repeat(TokenFormat.MAX_LENGTH) + "." + segments[2]
+        );
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.tokenauth.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ObjectPoolTest {
+
+    @Test
+    @DisplayName("반납한 객체 - 다시 사용")
+    void acquire_released() {
+        // given
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<Object> pool = new ObjectPool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        }, 2);
+        Object first = pool.acquire();
+        pool.release(first);
+
+        // when
+        Object second = pool.acquire();
+
+        // then
+        assertSame(first, second);
+        assertEquals(1, created.get());
+        assertEquals(0, pool.idleCount());
+    }
+
+    @Test
+    @DisplayName("maxIdle 초과 반납 - 버림")
+    void release_over_max_idle() {
+        // given
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new, 2);
+        Object[] objects = {pool.acquire(), pool.acquire(), pool.acquire()};
+
+        // when
+        for (Object object : objects) {
+            pool.release(object);
+        }
+
+        // then
+        assertEquals(2, pool.idleCount());
+    }
+}
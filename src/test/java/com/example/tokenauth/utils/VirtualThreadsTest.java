@@ -0,0 +1,39 @@
+package com.example.tokenauth.utils;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Java 21 이상 - 가상 스레드에서 실행")
+    void newExecutor() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+
+        // given
+        ExecutorService executor = VirtualThreads.newExecutor("test-");
+
+        // when
+        Thread thread = executor.submit(Thread::currentThread).get();
+        executor.shutdown();
+
+        // then
+        assertEquals("test-0", thread.getName());
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+    }
+
+    @Test
+    @DisplayName("Java 21 미만 - IllegalStateException")
+    void newExecutor_unsupported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> VirtualThreads.newExecutor("test-"));
+    }
+}